@@ -7,16 +7,26 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -24,8 +34,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import javax.security.auth.login.FailedLoginException;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
@@ -39,7 +47,15 @@ import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.AggregatedDeviceCache;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.DeviceSnapshot;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.LocationPathIndex;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.GraphQLQueryRegistry;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.NextFirmwareCache;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.ProfileCache;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.PropertyKeyTable;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.RequestStateHandler;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.RetryPolicy;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.ApiConstant;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.Constant;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.utils.MonitoringUtil;
@@ -47,12 +63,12 @@ import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.Authentication;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.DeviceCommand;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
-import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Invitation;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.DevicePage;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Organization;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Profile;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.requests.AuthenticationReq;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.requests.GraphQLReq;
-import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.InvitationStatus;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.QueryType;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.ResponseType;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.aggregated.FirmwareProperty;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.aggregated.OverviewProperty;
@@ -78,20 +94,55 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 	));
 	/** Historical properties of aggregated devices for graphing. */
 	private static final Set<String> AGGREGATED_HISTORICAL_PROPERTIES = new HashSet<>(Arrays.asList(
-			String.format(Constant.PROPERTY_FORMAT, Constant.STATUS_GROUP, StatusProperty.TEMPERATURE.getName()),
-			String.format(Constant.PROPERTY_FORMAT, Constant.STATUS_GROUP, StatusProperty.CPU_UTILIZATION.getName())
+			PropertyKeyTable.getKey(StatusProperty.TEMPERATURE, Constant.STATUS_GROUP),
+			PropertyKeyTable.getKey(StatusProperty.CPU_UTILIZATION, Constant.STATUS_GROUP)
 	));
+	/** Initial capacity of the properties map of an aggregated device, including {@link Constant#DATA_AGE}. */
+	private static final int AGGREGATED_PROPERTIES_CAPACITY = MonitoringUtil.getMapCapacity(
+			OverviewProperty.values().length + FirmwareProperty.values().length + StatusProperty.values().length + 1);
 	/** Reboot duration (ms) of an aggregated device. */
 	private static final long REBOOT_AGGREGATED_TIME = Duration.ofMinutes(4).toMillis();
+	/** Default number of devices requested per {@code allDevices} page. */
+	private static final int DEFAULT_DEVICE_PAGE_SIZE = 200;
+	/** Default number of {@code allDevices} pages fetched at the same time. */
+	private static final int DEFAULT_DEVICE_PAGE_CONCURRENCY = 4;
+	/** Default number of organizations combined into a single {@code allDevices} query. */
+	private static final int DEFAULT_ORGANIZATION_BATCH_SIZE = 20;
+	/** Default number of devices combined into a single {@code nextFirmware} query. */
+	private static final int DEFAULT_FIRMWARE_BATCH_SIZE = 50;
+	/** Default time-to-live (minutes) of a cached {@code nextFirmware} lookup. */
+	private static final int DEFAULT_FIRMWARE_CACHE_TTL = 30;
+	/** Default number of {@code nextFirmware} batches looked up at the same time. */
+	private static final int DEFAULT_FIRMWARE_CHECK_PARALLELISM = 4;
+	/** Default time-to-live (minutes) of the cached user profile and organizations. */
+	private static final int DEFAULT_PROFILE_CACHE_TTL = 60;
+	/** Default interval (seconds) between two background refreshes of the cloud data. */
+	private static final int DEFAULT_DATA_REFRESH_INTERVAL = 60;
+	/** Default age (seconds) after which the cloud data is refreshed before serving statistics. */
+	private static final int DEFAULT_MAX_DATA_STALENESS = 300;
+	/** Default maximum number of retries of a failed idempotent query. */
+	private static final int DEFAULT_REQUEST_MAX_RETRIES = 3;
+	/** Default number of retries shared by all queries of a data refresh cycle. */
+	private static final int DEFAULT_REQUEST_RETRY_BUDGET = 20;
 
 	/** Lock for thread-safe operations. */
 	private final ReentrantLock reentrantLock;
+	/** Lock ensuring a single refresh of the cloud data runs at a time. */
+	private final ReentrantLock refreshLock;
 	/** Application configuration loaded from {@code version.properties}. */
 	private final Properties versionProperties;
-	/** Jackson object mapper for JSON serialization and deserialization. */
-	private final ObjectMapper objectMapper;
 	/** Handles request status tracking and error detection. */
 	private final RequestStateHandler requestStateHandler;
+	/** Caches {@code nextFirmware} lookups until the firmware inputs of a device change. */
+	private final NextFirmwareCache nextFirmwareCache;
+	/** Caches the user profile and the organizations assembled from it. */
+	private final ProfileCache profileCache;
+	/** Decides whether and when failed idempotent queries are sent again. */
+	private final RetryPolicy retryPolicy;
+	/** Caches the aggregated device built for each device until the displayed values of the device change. */
+	private final AggregatedDeviceCache aggregatedDeviceCache;
+	/** Shares the location path of each place between the devices located in it. */
+	private final LocationPathIndex locationPathIndex;
 
 	/** Device adapter instantiation timestamp. */
 	private Long adapterInitializationTimestamp;
@@ -99,49 +150,100 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 	private Long lastMonitoringCycleDuration;
 	/** Stores extended statistics to be sent to the aggregator. */
 	private ExtendedStatistics localExtendedStatistics;
-	/** Executes asynchronous tasks for data loader. */
-	private ExecutorService executorService;
+	/**
+	 * Executes the remaining {@code allDevices} page requests after the first page is known.
+	 * Resized in place when {@link #devicePageConcurrency} changes.
+	 */
+	private volatile ThreadPoolExecutor devicePageExecutorService;
+	/** Refreshes the cloud data in the background, every {@link #dataRefreshInterval} seconds. */
+	private ScheduledExecutorService dataRefreshExecutorService;
+	/** Timestamp of the latest {@link #getMultipleStatistics()} call. */
+	private volatile long lastStatisticsRequestTimestamp;
 	/** Loads data from APIs for aggregated devices. */
-	private BiampWorkplaceDataLoader dataLoader;
+	private volatile BiampWorkplaceDataLoader dataLoader;
 	/** Stores local representations of aggregated devices. */
 	private List<AggregatedDevice> localAggregatedDevices;
-	/** The current authentication, including tokens and expiry information. */
-	private Authentication authentication;
-	/** The profile information of the currently {@link #authentication} user. */
-	private Profile profile;
+	/** Keeps the authentication tokens valid, refreshing them ahead of their expiry. */
+	private final BiampWorkplaceTokenManager tokenManager;
+	/** The profile information of the currently authenticated user. */
+	private volatile Profile profile;
 	/** The list of organizations associated with the {@link #profile} user. */
-	private List<Organization> organizations;
-	/** The list of devices from all associated {@link #organizations}. */
-	private final List<Device> devices;
+	private volatile List<Organization> organizations;
+	/** The latest published snapshot of devices from all associated {@link #organizations}. */
+	private final AtomicReference<DeviceSnapshot> deviceSnapshot;
 
-	/** The property used to filter the aggregated devices by organizationId(s) */
-	private List<String> organizationIds;
+	/**
+	 * The property used to filter the aggregated devices by organizationId(s).
+	 * Compiled into an immutable hash set, in configuration order, each time it is set.
+	 */
+	private volatile Set<String> organizationIds;
 	/** The properties used to display historical graphs for an aggregated device */
 	private List<String> historicalProperties;
 	/** Indicates whether control properties are visible; defaults to false. */
 	private boolean configManagement;
 	/** The OAuth hostname used to obtain tokens. */
 	private String oauthHostname;
+	/** The number of devices requested per {@code allDevices} page. */
+	private int devicePageSize;
+	/** The maximum number of {@code allDevices} pages fetched concurrently. */
+	private int devicePageConcurrency;
+	/** The maximum number of organizations combined into a single {@code allDevices} query. */
+	private int organizationBatchSize;
+	/** The maximum number of devices combined into a single {@code nextFirmware} query. */
+	private int firmwareBatchSize;
+	/** The time-to-live (minutes) of a cached {@code nextFirmware} lookup. */
+	private int firmwareCacheTtl;
+	/** The maximum number of {@code nextFirmware} batches looked up concurrently by the data loader. */
+	private int firmwareCheckParallelism;
+	/** The time-to-live (minutes) of the cached user profile and organizations. */
+	private int profileCacheTtl;
+	/** The interval (seconds) between two background refreshes of the cloud data. */
+	private int dataRefreshInterval;
+	/**
+	 * The maximum age (seconds) of the cloud data served while it is refreshed in the background.
+	 * Older data is refreshed before being served, and is no longer served if that refresh fails.
+	 */
+	private int maxDataStaleness;
+	/** The maximum number of retries of an idempotent query failing with a transient error. */
+	private int requestMaxRetries;
+	/** The number of retries shared by all queries of a data refresh cycle. */
+	private int requestRetryBudget;
 
 	public BiampWorkplaceCommunicator() {
 		this.reentrantLock = new ReentrantLock();
+		this.refreshLock = new ReentrantLock();
 		this.versionProperties = new Properties();
-		this.objectMapper = new ObjectMapper();
 		this.requestStateHandler = new RequestStateHandler();
+		this.nextFirmwareCache = new NextFirmwareCache(Duration.ofMinutes(DEFAULT_FIRMWARE_CACHE_TTL).toMillis());
+		this.aggregatedDeviceCache = new AggregatedDeviceCache();
+		this.locationPathIndex = new LocationPathIndex();
+		this.profileCache = new ProfileCache(Duration.ofMinutes(DEFAULT_PROFILE_CACHE_TTL).toMillis());
+		this.retryPolicy = new RetryPolicy(DEFAULT_REQUEST_MAX_RETRIES, DEFAULT_REQUEST_RETRY_BUDGET, getMaxRetryDelay(DEFAULT_DATA_REFRESH_INTERVAL));
 
 		this.adapterInitializationTimestamp = System.currentTimeMillis();
 		this.lastMonitoringCycleDuration = 0L;
 		this.localExtendedStatistics = new ExtendedStatistics();
 		this.localAggregatedDevices = new ArrayList<>();
-		this.authentication = new Authentication();
+		this.tokenManager = new BiampWorkplaceTokenManager(this);
 		this.profile = new Profile();
 		this.organizations = new ArrayList<>();
-		this.devices = Collections.synchronizedList(new ArrayList<>());
+		this.deviceSnapshot = new AtomicReference<>(DeviceSnapshot.empty());
 
-		this.organizationIds = new ArrayList<>();
+		this.organizationIds = Collections.emptySet();
 		this.historicalProperties = new ArrayList<>();
 		this.configManagement = false;
 		this.oauthHostname = ApiConstant.OAUTH_HOSTNAME;
+		this.devicePageSize = DEFAULT_DEVICE_PAGE_SIZE;
+		this.devicePageConcurrency = DEFAULT_DEVICE_PAGE_CONCURRENCY;
+		this.organizationBatchSize = DEFAULT_ORGANIZATION_BATCH_SIZE;
+		this.firmwareBatchSize = DEFAULT_FIRMWARE_BATCH_SIZE;
+		this.firmwareCacheTtl = DEFAULT_FIRMWARE_CACHE_TTL;
+		this.firmwareCheckParallelism = DEFAULT_FIRMWARE_CHECK_PARALLELISM;
+		this.profileCacheTtl = DEFAULT_PROFILE_CACHE_TTL;
+		this.dataRefreshInterval = DEFAULT_DATA_REFRESH_INTERVAL;
+		this.maxDataStaleness = DEFAULT_MAX_DATA_STALENESS;
+		this.requestMaxRetries = DEFAULT_REQUEST_MAX_RETRIES;
+		this.requestRetryBudget = DEFAULT_REQUEST_RETRY_BUDGET;
 	}
 
 	/**
@@ -159,13 +261,14 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 	 * @param organizationIds new value of {@link #organizationIds}
 	 */
 	public void setOrganizationIds(String organizationIds) {
-		this.organizationIds.clear();
 		if (StringUtils.isNullOrEmpty(organizationIds)) {
+			this.organizationIds = Collections.emptySet();
 			return;
 		}
-		Arrays.stream(organizationIds.split(Constant.COMMA)).map(String::trim)
+		Set<String> compiledOrganizationIds = Arrays.stream(organizationIds.split(Constant.COMMA)).map(String::trim)
 				.filter(organizationId -> !organizationId.isEmpty())
-				.forEach(organizationId -> this.organizationIds.add(organizationId));
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		this.organizationIds = Collections.unmodifiableSet(compiledOrganizationIds);
 	}
 
 	/**
@@ -184,6 +287,7 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 	 */
 	public void setHistoricalProperties(String historicalProperties) {
 		this.historicalProperties.clear();
+		this.aggregatedDeviceCache.clear();
 		if (StringUtils.isNullOrEmpty(historicalProperties)) {
 			return;
 		}
@@ -208,6 +312,7 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 	 */
 	public void setConfigManagement(boolean configManagement) {
 		this.configManagement = configManagement;
+		this.aggregatedDeviceCache.clear();
 	}
 
 	/**
@@ -240,13 +345,265 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 		this.oauthHostname = oauthHostname;
 	}
 
+	/**
+	 * Retrieves {@link #devicePageSize}
+	 *
+	 * @return value of {@link #devicePageSize}
+	 */
+	public int getDevicePageSize() {
+		return devicePageSize;
+	}
+
+	/**
+	 * Sets {@link #devicePageSize} value at adapter properties
+	 *
+	 * @param devicePageSize new value of {@link #devicePageSize}; non-positive values are ignored
+	 */
+	public void setDevicePageSize(int devicePageSize) {
+		if (devicePageSize <= 0) {
+			return;
+		}
+		this.devicePageSize = devicePageSize;
+	}
+
+	/**
+	 * Retrieves {@link #devicePageConcurrency}
+	 *
+	 * @return value of {@link #devicePageConcurrency}
+	 */
+	public int getDevicePageConcurrency() {
+		return devicePageConcurrency;
+	}
+
+	/**
+	 * Sets {@link #devicePageConcurrency} value at adapter properties
+	 *
+	 * @param devicePageConcurrency new value of {@link #devicePageConcurrency}; non-positive values are ignored.
+	 * Once initialized, {@link #devicePageExecutorService} is resized to the new value.
+	 */
+	public void setDevicePageConcurrency(int devicePageConcurrency) {
+		if (devicePageConcurrency <= 0) {
+			return;
+		}
+		this.devicePageConcurrency = devicePageConcurrency;
+		ThreadPoolExecutor executorService = this.devicePageExecutorService;
+		if (executorService == null) {
+			return;
+		}
+		Util.setFixedPoolSize(executorService, devicePageConcurrency);
+	}
+
+	/**
+	 * Retrieves {@link #organizationBatchSize}
+	 *
+	 * @return value of {@link #organizationBatchSize}
+	 */
+	public int getOrganizationBatchSize() {
+		return organizationBatchSize;
+	}
+
+	/**
+	 * Sets {@link #organizationBatchSize} value at adapter properties
+	 *
+	 * @param organizationBatchSize new value of {@link #organizationBatchSize}; non-positive values are ignored
+	 */
+	public void setOrganizationBatchSize(int organizationBatchSize) {
+		if (organizationBatchSize <= 0) {
+			return;
+		}
+		this.organizationBatchSize = organizationBatchSize;
+	}
+
+	/**
+	 * Retrieves {@link #firmwareBatchSize}
+	 *
+	 * @return value of {@link #firmwareBatchSize}
+	 */
+	public int getFirmwareBatchSize() {
+		return firmwareBatchSize;
+	}
+
+	/**
+	 * Sets {@link #firmwareBatchSize} value at adapter properties
+	 *
+	 * @param firmwareBatchSize new value of {@link #firmwareBatchSize}; non-positive values are ignored
+	 */
+	public void setFirmwareBatchSize(int firmwareBatchSize) {
+		if (firmwareBatchSize <= 0) {
+			return;
+		}
+		this.firmwareBatchSize = firmwareBatchSize;
+	}
+
+	/**
+	 * Retrieves {@link #firmwareCacheTtl}
+	 *
+	 * @return value of {@link #firmwareCacheTtl}
+	 */
+	public int getFirmwareCacheTtl() {
+		return firmwareCacheTtl;
+	}
+
+	/**
+	 * Sets {@link #firmwareCacheTtl} value at adapter properties
+	 *
+	 * @param firmwareCacheTtl new value of {@link #firmwareCacheTtl}, in minutes; negative values are ignored
+	 */
+	public void setFirmwareCacheTtl(int firmwareCacheTtl) {
+		if (firmwareCacheTtl < 0) {
+			return;
+		}
+		this.firmwareCacheTtl = firmwareCacheTtl;
+		this.nextFirmwareCache.setTimeToLive(Duration.ofMinutes(firmwareCacheTtl).toMillis());
+	}
+
+	/**
+	 * Retrieves {@link #firmwareCheckParallelism}
+	 *
+	 * @return value of {@link #firmwareCheckParallelism}
+	 */
+	public int getFirmwareCheckParallelism() {
+		return firmwareCheckParallelism;
+	}
+
+	/**
+	 * Sets {@link #firmwareCheckParallelism} value at adapter properties
+	 *
+	 * @param firmwareCheckParallelism new value of {@link #firmwareCheckParallelism}; non-positive values are ignored.
+	 * Once started, the lookup threads of {@link #dataLoader} are resized to the new value.
+	 */
+	public void setFirmwareCheckParallelism(int firmwareCheckParallelism) {
+		if (firmwareCheckParallelism <= 0) {
+			return;
+		}
+		this.firmwareCheckParallelism = firmwareCheckParallelism;
+		BiampWorkplaceDataLoader loader = this.dataLoader;
+		if (loader != null) {
+			loader.setLookupParallelism(firmwareCheckParallelism);
+		}
+	}
+
+	/**
+	 * Retrieves {@link #profileCacheTtl}
+	 *
+	 * @return value of {@link #profileCacheTtl}
+	 */
+	public int getProfileCacheTtl() {
+		return profileCacheTtl;
+	}
+
+	/**
+	 * Sets {@link #profileCacheTtl} value at adapter properties
+	 *
+	 * @param profileCacheTtl new value of {@link #profileCacheTtl}, in minutes; negative values are ignored
+	 */
+	public void setProfileCacheTtl(int profileCacheTtl) {
+		if (profileCacheTtl < 0) {
+			return;
+		}
+		this.profileCacheTtl = profileCacheTtl;
+		this.profileCache.setTimeToLive(Duration.ofMinutes(profileCacheTtl).toMillis());
+	}
+
+	/**
+	 * Retrieves {@link #dataRefreshInterval}
+	 *
+	 * @return value of {@link #dataRefreshInterval}
+	 */
+	public int getDataRefreshInterval() {
+		return dataRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #dataRefreshInterval} value at adapter properties
+	 *
+	 * @param dataRefreshInterval new value of {@link #dataRefreshInterval}; non-positive values are ignored
+	 */
+	public void setDataRefreshInterval(int dataRefreshInterval) {
+		if (dataRefreshInterval <= 0) {
+			return;
+		}
+		this.dataRefreshInterval = dataRefreshInterval;
+		this.retryPolicy.setMaxTotalDelay(getMaxRetryDelay(dataRefreshInterval));
+	}
+
+	/**
+	 * Retrieves {@link #maxDataStaleness}
+	 *
+	 * @return value of {@link #maxDataStaleness}
+	 */
+	public int getMaxDataStaleness() {
+		return maxDataStaleness;
+	}
+
+	/**
+	 * Sets {@link #maxDataStaleness} value at adapter properties
+	 *
+	 * @param maxDataStaleness new value of {@link #maxDataStaleness}; non-positive values are ignored
+	 */
+	public void setMaxDataStaleness(int maxDataStaleness) {
+		if (maxDataStaleness <= 0) {
+			return;
+		}
+		this.maxDataStaleness = maxDataStaleness;
+	}
+
+	/**
+	 * Retrieves {@link #requestMaxRetries}
+	 *
+	 * @return value of {@link #requestMaxRetries}
+	 */
+	public int getRequestMaxRetries() {
+		return requestMaxRetries;
+	}
+
+	/**
+	 * Sets {@link #requestMaxRetries} value at adapter properties
+	 *
+	 * @param requestMaxRetries new value of {@link #requestMaxRetries}; negative values are ignored, {@code 0} disables retries
+	 */
+	public void setRequestMaxRetries(int requestMaxRetries) {
+		if (requestMaxRetries < 0) {
+			return;
+		}
+		this.requestMaxRetries = requestMaxRetries;
+		this.retryPolicy.setMaxRetries(requestMaxRetries);
+	}
+
+	/**
+	 * Retrieves {@link #requestRetryBudget}
+	 *
+	 * @return value of {@link #requestRetryBudget}
+	 */
+	public int getRequestRetryBudget() {
+		return requestRetryBudget;
+	}
+
+	/**
+	 * Sets {@link #requestRetryBudget} value at adapter properties
+	 *
+	 * @param requestRetryBudget new value of {@link #requestRetryBudget}; negative values are ignored, {@code 0} disables retries
+	 */
+	public void setRequestRetryBudget(int requestRetryBudget) {
+		if (requestRetryBudget < 0) {
+			return;
+		}
+		this.requestRetryBudget = requestRetryBudget;
+		this.retryPolicy.setBudget(requestRetryBudget);
+		this.retryPolicy.resetBudget();
+	}
+
 	@Override
 	protected void internalInit() throws Exception {
 		this.logger.info(Constant.INITIAL_INTERNAL_INFO + this.getClass().getSimpleName());
 		this.setTrustAllCertificates(true);
 		this.setAuthenticationScheme(AuthenticationScheme.None);
 		this.loadProperties(this.versionProperties);
+		GraphQLQueryRegistry.load();
+		this.devicePageExecutorService = new ThreadPoolExecutor(this.devicePageConcurrency, this.devicePageConcurrency,
+				0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
 		this.authenticate();
+		this.tokenManager.start();
 		super.internalInit();
 	}
 
@@ -255,9 +612,7 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 		if (StringUtils.isNullOrEmpty(this.getLogin()) || StringUtils.isNullOrEmpty(this.getPassword())) {
 			throw new FailedLoginException(Constant.LOGIN_FAILED);
 		}
-		if (this.authentication.isInvalid()) {
-			this.authentication.setRefreshToken(this.getPassword());
-		}
+		this.tokenManager.setRefreshTokenIfInvalid(this.getPassword());
 	}
 
 	@Override
@@ -266,7 +621,7 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 			headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
 		} else {
 			headers.setContentType(MediaType.APPLICATION_JSON);
-			headers.setBearerAuth(this.authentication.getAccessToken());
+			headers.setBearerAuth(this.tokenManager.getAccessToken());
 		}
 
 		return super.putExtraRequestHeaders(httpMethod, uri, headers);
@@ -274,9 +629,12 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 
 	@Override
 	public List<Statistics> getMultipleStatistics() throws Exception {
+		this.lastStatisticsRequestTimestamp = System.currentTimeMillis();
+		this.setupDataRefresher();
+		//	Refreshed before taking reentrantLock, so retries of a slow refresh never block controls
+		this.refreshDataIfStale();
 		this.reentrantLock.lock();
 		try {
-			this.setupData();
 			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
 			Map<String, String> statistics = new HashMap<>();
 			statistics.putAll(this.getGeneralProperties());
@@ -295,49 +653,101 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 	@Override
 	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
 		this.setupDataLoader();
-		List<AggregatedDevice> aggregatedDevices = new ArrayList<>();
-		synchronized (this.devices) {
-			this.devices.forEach(device -> {
-				AggregatedDevice aggregatedDevice = new AggregatedDevice();
-				aggregatedDevice.setDeviceId(device.getId());
-				aggregatedDevice.setDeviceName(MonitoringUtil.mapToDeviceName(device));
-				aggregatedDevice.setDeviceOnline(Util.isDeviceOnline(device.getState()));
-				aggregatedDevice.setSerialNumber(device.getSerial());
-				aggregatedDevice.setTimestamp(System.currentTimeMillis());
-
-				Map<String, String> statistics = new HashMap<>();
-				statistics.putAll(this.getOverviewProperties(device));
-				statistics.putAll(this.getFirmwareProperties(device));
-				statistics.putAll(this.getStatusProperties(device));
-
-				List<AdvancedControllableProperty> controllableProperties = new ArrayList<>();
-				if (this.configManagement) {
-					controllableProperties.addAll(this.getOverviewControllers());
-				}
-				Optional.of(controllableProperties).filter(List::isEmpty).ifPresent(l -> l.add(Constant.DUMMY_CONTROLLER));
-
-				aggregatedDevice.setProperties(statistics);
-				aggregatedDevice.setControllableProperties(controllableProperties);
-				aggregatedDevice.setDynamicStatistics(this.getRealtimeStatistics(statistics));
-				aggregatedDevices.add(aggregatedDevice);
-			});
+		DeviceSnapshot snapshot = this.deviceSnapshot.get();
+		if (this.isDataExpired(snapshot)) {
+			this.logger.warn(String.format(Constant.DATA_EXPIRED_WARNING, this.maxDataStaleness));
+			return Collections.emptyList();
 		}
-		//	Filter by organization id(s)
-		if (CollectionUtils.isNotEmpty(this.organizationIds)) {
-			String organizationName = OverviewProperty.ORGANIZATION_ID.getName();
-			aggregatedDevices.removeIf(aggregatedDevice -> !this.organizationIds.contains(aggregatedDevice.getProperties().get(organizationName)));
-		}
-		this.localAggregatedDevices = aggregatedDevices;
+		this.localAggregatedDevices = this.getAggregatedDevices(snapshot, snapshot.getDevices());
 		this.versionProperties.setProperty(GeneralProperty.LAST_MONITORING_CYCLE_DURATION.getProperty(), String.valueOf(this.lastMonitoringCycleDuration));
 		this.versionProperties.setProperty(GeneralProperty.MONITORED_DEVICES_TOTAL.getProperty(), String.valueOf(this.localAggregatedDevices.size()));
 		return this.localAggregatedDevices;
 	}
 
+	/**
+	 * Retrieves the aggregated devices of the given devices, filtered by {@link #organizationIds}.
+	 * <p>
+	 * Devices of other organizations are skipped before any mapping work.
+	 * Only the devices whose displayed values changed since the last call are rebuilt, the others are served from
+	 * {@link #aggregatedDeviceCache} as the same instances. Every returned aggregated device gets the timestamp and
+	 * data age of this call, so instances returned by previous calls see these two values updated as well.
+	 * </p>
+	 *
+	 * @param snapshot the snapshot the devices belong to
+	 * @param devices the devices to retrieve the aggregated devices of
+	 * @return the aggregated devices, in the order of {@code devices}
+	 */
+	private List<AggregatedDevice> getAggregatedDevices(DeviceSnapshot snapshot, Collection<Device> devices) {
+		String dataAge = String.valueOf(TimeUnit.MILLISECONDS.toSeconds(snapshot.getAge()));
+		long timestamp = System.currentTimeMillis();
+		this.aggregatedDeviceCache.retain(snapshot);
+		this.locationPathIndex.retain(snapshot);
+		Set<String> filteredOrganizationIds = this.organizationIds;
+		boolean filterByOrganization = CollectionUtils.isNotEmpty(filteredOrganizationIds);
+		List<AggregatedDevice> aggregatedDevices = new ArrayList<>(devices.size());
+		for (Device device : devices) {
+			if (filterByOrganization && !filteredOrganizationIds.contains(device.getOrgId())) {
+				continue;
+			}
+			AggregatedDevice aggregatedDevice = this.aggregatedDeviceCache.get(device);
+			if (aggregatedDevice == null) {
+				aggregatedDevice = this.buildAggregatedDevice(device);
+				this.aggregatedDeviceCache.put(device, aggregatedDevice);
+			}
+			aggregatedDevice.setTimestamp(timestamp);
+			aggregatedDevice.getProperties().put(Constant.DATA_AGE, dataAge);
+			aggregatedDevices.add(aggregatedDevice);
+		}
+
+		return aggregatedDevices;
+	}
+
+	/**
+	 * Builds the aggregated device of the given device, with its properties, controllers and dynamic statistics.
+	 *
+	 * @param device the device to build the aggregated device from
+	 * @return the built aggregated device
+	 */
+	private AggregatedDevice buildAggregatedDevice(Device device) {
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceId(device.getId());
+		aggregatedDevice.setDeviceName(MonitoringUtil.mapToDeviceName(device));
+		aggregatedDevice.setDeviceOnline(Util.isDeviceOnline(device.getState()));
+		aggregatedDevice.setSerialNumber(device.getSerial());
+
+		Map<String, String> statistics = new HashMap<>(AGGREGATED_PROPERTIES_CAPACITY);
+		this.putOverviewProperties(statistics, device);
+		this.putFirmwareProperties(statistics, device);
+		this.putStatusProperties(statistics, device);
+
+		List<AdvancedControllableProperty> controllableProperties = new ArrayList<>();
+		if (this.configManagement) {
+			controllableProperties.addAll(this.getOverviewControllers());
+		}
+		Optional.of(controllableProperties).filter(List::isEmpty).ifPresent(l -> l.add(Constant.DUMMY_CONTROLLER));
+
+		aggregatedDevice.setProperties(statistics);
+		aggregatedDevice.setControllableProperties(controllableProperties);
+		aggregatedDevice.setDynamicStatistics(this.getRealtimeStatistics(statistics));
+		return aggregatedDevice;
+	}
+
 	@Override
 	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-		return this.retrieveMultipleStatistics().stream()
-				.filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId()))
-				.collect(Collectors.toList());
+		this.setupDataLoader();
+		DeviceSnapshot snapshot = this.deviceSnapshot.get();
+		if (CollectionUtils.isEmpty(list) || this.isDataExpired(snapshot)) {
+			return Collections.emptyList();
+		}
+		//	Look the requested devices up by ID, so only these devices are built
+		Map<String, Device> requestedDevices = new LinkedHashMap<>(MonitoringUtil.getMapCapacity(list.size()));
+		for (String deviceId : list) {
+			Device device = snapshot.getDevice(deviceId);
+			if (device != null) {
+				requestedDevices.put(deviceId, device);
+			}
+		}
+		return this.getAggregatedDevices(snapshot, requestedDevices.values());
 	}
 
 	@Override
@@ -345,9 +755,10 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 		this.reentrantLock.lock();
 		try {
 			if (OverviewProperty.REBOOT.getName().equals(controllableProperty.getProperty())) {
-				Device device = this.devices.stream()
-						.filter(d -> d.getId().equals(controllableProperty.getDeviceId())).findFirst()
-						.orElseThrow(() -> new IllegalStateException(Constant.DETERMINE_DEVICE_FAILED + controllableProperty.getDeviceId()));
+				Device device = this.deviceSnapshot.get().getDevice(controllableProperty.getDeviceId());
+				if (device == null) {
+					throw new IllegalStateException(Constant.DETERMINE_DEVICE_FAILED + controllableProperty.getDeviceId());
+				}
 				GraphQLReq query = GraphQLReq.rebootDevice(device.getOrgId(), device.getId());
 				DeviceCommand response = this.sendRequest(ApiConstant.GRAPHQL_ENDPOINT, query, ResponseType.REBOOT_DEVICE);
 
@@ -381,10 +792,9 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 		this.historicalProperties = null;
 		this.organizationIds = null;
 
-		this.devices.clear();
+		this.deviceSnapshot.set(DeviceSnapshot.empty());
 		this.organizations = null;
 		this.profile = null;
-		this.authentication = null;
 		this.localAggregatedDevices = null;
 		this.localExtendedStatistics = null;
 		this.lastMonitoringCycleDuration = null;
@@ -394,11 +804,20 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 			this.dataLoader.stop();
 			this.dataLoader = null;
 		}
-		if (this.executorService != null) {
-			this.executorService.shutdownNow();
-			this.executorService = null;
+		this.tokenManager.stop();
+		if (this.dataRefreshExecutorService != null) {
+			this.dataRefreshExecutorService.shutdownNow();
+			this.dataRefreshExecutorService = null;
+		}
+		if (this.devicePageExecutorService != null) {
+			this.devicePageExecutorService.shutdownNow();
+			this.devicePageExecutorService = null;
 		}
 		this.requestStateHandler.clearRequests();
+		this.nextFirmwareCache.clear();
+		this.aggregatedDeviceCache.clear();
+		this.locationPathIndex.clear();
+		this.profileCache.clear();
 
 		super.internalDestroy();
 	}
@@ -420,65 +839,332 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 		}
 	}
 
+	/**
+	 * Starts the background refresh of the cloud data, if not already started.
+	 * <p>
+	 * The first refresh is left to {@link #refreshDataIfStale()}, so the background refreshes start
+	 * {@link #dataRefreshInterval} seconds later and then keep the same delay between two refreshes.
+	 * </p>
+	 */
+	private synchronized void setupDataRefresher() {
+		if (this.dataRefreshExecutorService != null) {
+			return;
+		}
+		this.dataRefreshExecutorService = Executors.newSingleThreadScheduledExecutor();
+		this.dataRefreshExecutorService.scheduleWithFixedDelay(this::refreshDataInBackground,
+				this.dataRefreshInterval, this.dataRefreshInterval, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Refreshes the cloud data on the background refresher thread.
+	 * <p>
+	 * A failed refresh is only logged: the previous data keeps being served until it is older than
+	 * {@link #maxDataStaleness}. Refreshes are skipped while {@link #getMultipleStatistics()} is not being
+	 * called, so a paused aggregator does not keep querying the cloud; the next call then refreshes the
+	 * expired data itself.
+	 * </p>
+	 */
+	private void refreshDataInBackground() {
+		if (System.currentTimeMillis() - this.lastStatisticsRequestTimestamp > Duration.ofSeconds(this.maxDataStaleness).toMillis()) {
+			return;
+		}
+		try {
+			this.refreshData();
+		} catch (Exception e) {
+			this.logger.error(Constant.REFRESH_DATA_FAILED, e);
+		}
+	}
+
+	/**
+	 * Refreshes the cloud data on the calling thread if the published snapshot is older than
+	 * {@link #maxDataStaleness}, or if no snapshot was published yet.
+	 * <p>
+	 * Fresh data is checked without taking {@link #refreshLock}, so a background refresh in progress does not
+	 * block callers while the published snapshot can still be served. Expired data is checked again under the
+	 * lock, so a refresh that completed while waiting for it is not repeated.
+	 * </p>
+	 *
+	 * @throws Exception if the refresh fails, in which case the expired data is not served
+	 */
+	private void refreshDataIfStale() throws Exception {
+		if (!this.isDataExpired(this.deviceSnapshot.get())) {
+			return;
+		}
+		this.refreshLock.lock();
+		try {
+			if (this.isDataExpired(this.deviceSnapshot.get())) {
+				this.refreshData();
+			}
+		} finally {
+			this.refreshLock.unlock();
+		}
+	}
+
+	/**
+	 * Checks whether the given snapshot is older than {@link #maxDataStaleness}.
+	 *
+	 * @param snapshot the snapshot to check
+	 * @return {@code true} if the data must be refreshed before being served, {@code false} otherwise
+	 */
+	private boolean isDataExpired(DeviceSnapshot snapshot) {
+		return snapshot.getAge() > Duration.ofSeconds(this.maxDataStaleness).toMillis();
+	}
+
+	/**
+	 * Runs {@link #setupData()} while holding {@link #refreshLock}.
+	 *
+	 * @throws Exception if the refresh fails
+	 */
+	private void refreshData() throws Exception {
+		this.refreshLock.lock();
+		try {
+			this.setupData();
+		} finally {
+			this.refreshLock.unlock();
+		}
+	}
+
+	/**
+	 * Fetches the profile, organizations and devices from the cloud and publishes them.
+	 * The profile and organizations are served from {@link #profileCache} until it expires.
+	 * <p>
+	 * Everything is built off to the side and assigned at the end, so statistics served meanwhile
+	 * keep using the previous data. If the profile could not be fetched, nothing is published and the previous
+	 * data stays in place. Organizations whose devices could not be fetched keep their devices of the previous
+	 * snapshot in the published one, and the failed requests are tracked by {@link #requestStateHandler}.
+	 * These kept devices are then reported with the age of the new snapshot until their next successful fetch.
+	 * </p>
+	 *
+	 * @throws Exception if an unrecoverable error occurs, or if the profile or the devices of every organization could not be fetched
+	 */
 	private void setupData() throws Exception {
 		this.requestStateHandler.clearRequests();
-		this.organizations.clear();
-		this.devices.clear();
-
-		if (this.authentication.isInvalid()) {
-			this.logger.info(Constant.REFRESHING_TOKENS_INFO);
-			final String authUrl = String.format("%s://%s/%s", this.getProtocol(), this.oauthHostname, ApiConstant.OAUTH_ENDPOINT);
-			AuthenticationReq authRequest = new AuthenticationReq(this.getLogin(), this.authentication.getRefreshToken());
-			Authentication authResponse = this.sendRequest(authUrl, authRequest.toFormData(), ResponseType.AUTHENTICATION);
-			this.authentication = Optional.ofNullable(authResponse).orElse(new Authentication());
-			this.authentication.setIssuedAt(System.currentTimeMillis());
-		}
-		this.profile = this.sendRequest(ApiConstant.GRAPHQL_ENDPOINT, GraphQLReq.getProfile(), ResponseType.PROFILE);
-		if (this.profile != null && CollectionUtils.isNotEmpty(this.profile.getMemberships())) {
-			//	Collect data for this.organizations
-			this.profile.getMemberships().forEach(membership -> {
-				Organization organization = membership.getOrganization();
-				InvitationStatus invitationStatus = this.profile.getInvitations().stream()
-						.filter(invitation -> invitation.getOrgId().equals(organization.getId()))
-						.map(Invitation::getStatus).findFirst().orElse(InvitationStatus.NOT_AVAILABLE);
-				organization.setMembershipRole(membership.getRole());
-				organization.setMembershipStatus(membership.getStatus());
-				organization.setInvitationStatus(invitationStatus);
-
-				this.organizations.add(organization);
-			});
-			//	Collect data for this.devices
-			for (Organization organization : this.organizations) {
-				List<Device> fetchedDevices = this.sendRequest(ApiConstant.GRAPHQL_ENDPOINT, GraphQLReq.getDevices(organization.getId()), ResponseType.DEVICES);
-				if (CollectionUtils.isNotEmpty(fetchedDevices)) {
-					this.devices.addAll(fetchedDevices);
-				}
+		this.retryPolicy.resetBudget();
+		DeviceSnapshot previousSnapshot = this.deviceSnapshot.get();
+		List<Device> fetchedDevices = Collections.emptyList();
+
+		this.tokenManager.ensureValid();
+		//	The profile is only fetched again once the cached one expired, and organizations only rebuilt when it changed
+		if (!this.profileCache.isValid()) {
+			Profile latestProfile = this.sendRequest(QueryType.PROFILE.getFileName(), ApiConstant.GRAPHQL_ENDPOINT,
+					GraphQLQueryRegistry.getRequestBody(QueryType.PROFILE), ResponseType.PROFILE);
+			if (latestProfile == null) {
+				this.requestStateHandler.verifyRequestState();
+				throw new IllegalStateException(Constant.FETCH_PROFILE_FAILED);
 			}
+			this.profileCache.update(latestProfile, this::buildOrganizations);
+		}
+		Profile fetchedProfile = this.profileCache.getProfile();
+		List<Organization> fetchedOrganizations = this.profileCache.getOrganizations();
+		if (CollectionUtils.isNotEmpty(fetchedOrganizations)) {
 			//	Update the this.organizationIds
-			if (Boolean.FALSE.equals(this.profile.getSuperAdmin())
-					&& CollectionUtils.isNotEmpty(this.organizationIds) && this.organizationIds.size() > 1) {
-				this.organizationIds.subList(1, this.organizationIds.size()).clear();
+			Set<String> filteredOrganizationIds = this.organizationIds;
+			if (Boolean.FALSE.equals(fetchedProfile.getSuperAdmin())
+					&& CollectionUtils.isNotEmpty(filteredOrganizationIds) && filteredOrganizationIds.size() > 1) {
+				filteredOrganizationIds = Collections.singleton(filteredOrganizationIds.iterator().next());
+				this.organizationIds = filteredOrganizationIds;
 			}
+			//	Collect data for the next device snapshot, only for the organizations matching this.organizationIds
+			Set<String> monitoredOrganizationIds = filteredOrganizationIds;
+			List<Organization> monitoredOrganizations = CollectionUtils.isEmpty(monitoredOrganizationIds)
+					? fetchedOrganizations
+					: fetchedOrganizations.stream().filter(organization -> monitoredOrganizationIds.contains(organization.getId())).collect(Collectors.toList());
+			fetchedDevices = this.fetchOrganizationDevices(monitoredOrganizations, previousSnapshot);
+			//	Drop cached next firmware of changed devices and restore it on the unchanged ones
+			this.nextFirmwareCache.invalidate(fetchedDevices);
+			fetchedDevices.forEach(this.nextFirmwareCache::restore);
 		}
+		//	Publish the new data at once, readers keep using the previous data until now
+		this.profile = fetchedProfile;
+		this.organizations = fetchedOrganizations;
+		this.deviceSnapshot.set(new DeviceSnapshot(fetchedDevices));
 
 		this.requestStateHandler.verifyRequestState();
 	}
 
+	/**
+	 * Assembles the organizations of the given profile, with the membership and invitation details of the user.
+	 *
+	 * @param profile the profile to assemble the organizations of
+	 * @return an unmodifiable list of organizations, in the order of the memberships
+	 */
+	private List<Organization> buildOrganizations(Profile profile) {
+		if (CollectionUtils.isEmpty(profile.getMemberships())) {
+			return Collections.emptyList();
+		}
+		List<Organization> builtOrganizations = new ArrayList<>(profile.getMemberships().size());
+		profile.getMemberships().forEach(membership -> {
+			Organization organization = membership.getOrganization();
+			organization.setMembershipRole(membership.getRole());
+			organization.setMembershipStatus(membership.getStatus());
+			organization.setInvitationStatus(profile.getInvitationStatus(organization.getId()));
+
+			builtOrganizations.add(organization);
+		});
+
+		return Collections.unmodifiableList(builtOrganizations);
+	}
+
+	/**
+	 * Fetches the devices of the given organizations, combining up to {@link #organizationBatchSize}
+	 * organizations into each {@code allDevices} query.
+	 * <p>
+	 * The devices of each batch are split by {@link Device#getOrgId()} and appended in the order of
+	 * {@code organizations}, so the result matches what one request per organization would return.
+	 * Devices whose {@code orgId} is missing or not one of the batch are skipped, as they would be by the
+	 * organization filter of the aggregated devices.
+	 * </p>
+	 * <p>
+	 * When a batch could not be fetched completely, its organizations keep their devices of {@code previousSnapshot},
+	 * so a single failed request does not drop them from the fleet; the next refresh fetches them again.
+	 * If no batch could be fetched, the previous snapshot is kept as is, with its age.
+	 * </p>
+	 *
+	 * @param organizations the organizations to fetch devices for
+	 * @param previousSnapshot the snapshot holding the devices kept for the organizations that could not be fetched
+	 * @return the fetched devices, grouped by organization
+	 * @throws Exception if an unrecoverable error occurs while sending a request, or if no batch could be fetched
+	 */
+	private List<Device> fetchOrganizationDevices(List<Organization> organizations, DeviceSnapshot previousSnapshot) throws Exception {
+		final int batchSize = this.organizationBatchSize;
+		List<Device> fetchedDevices = new ArrayList<>();
+		boolean anyBatchFetched = false;
+		for (int from = 0; from < organizations.size(); from += batchSize) {
+			List<Organization> batch = organizations.subList(from, Math.min(from + batchSize, organizations.size()));
+			String[] organizationIds = batch.stream().map(Organization::getId).toArray(String[]::new);
+			List<Device> batchDevices = this.fetchDevices(organizationIds);
+			if (batchDevices == null) {
+				int previousDevices = 0;
+				for (List<Device> organizationDevices : Util.splitByOrganization(previousSnapshot.getDevices(), organizationIds).values()) {
+					fetchedDevices.addAll(organizationDevices);
+					previousDevices += organizationDevices.size();
+				}
+				this.logger.warn(String.format(Constant.FETCH_ORGANIZATION_DEVICES_FAILED_WARNING, String.join(Constant.COMMA, organizationIds), previousDevices));
+				continue;
+			}
+			anyBatchFetched = true;
+			int placedDevices = 0;
+			for (List<Device> organizationDevices : Util.splitByOrganization(batchDevices, organizationIds).values()) {
+				fetchedDevices.addAll(organizationDevices);
+				placedDevices += organizationDevices.size();
+			}
+			if (placedDevices < batchDevices.size()) {
+				this.logger.warn(String.format(Constant.DEVICES_WITHOUT_ORGANIZATION_WARNING, batchDevices.size() - placedDevices,
+						String.join(Constant.COMMA, organizationIds)));
+			}
+		}
+		if (!anyBatchFetched && !organizations.isEmpty()) {
+			this.requestStateHandler.verifyRequestState();
+			throw new IllegalStateException(Constant.FETCH_DEVICES_FAILED);
+		}
+
+		return fetchedDevices;
+	}
+
+	/**
+	 * Fetches every device of the given organizations using the paginated {@code allDevices} query.
+	 * <p>
+	 * The first page is requested synchronously to read {@link DevicePage#getTotalCount()}. The remaining
+	 * pages are then requested on {@link #devicePageExecutorService}, at most {@link #devicePageConcurrency}
+	 * at a time, and appended in offset order. A page that fails to load fails the fetch of these organizations
+	 * only, so an incomplete list of their devices is never returned; the failure is tracked by
+	 * {@link RequestStateHandler} the same way as any other request.
+	 * </p>
+	 *
+	 * @param organizationIds the organization IDs used to filter the devices
+	 * @return the fetched devices, or {@code null} if a page could not be loaded
+	 * @throws Exception if an unrecoverable error occurs while sending a page request
+	 */
+	private List<Device> fetchDevices(String... organizationIds) throws Exception {
+		final int pageSize = this.devicePageSize;
+		DevicePage firstPage = this.fetchDevicePage(pageSize, 0, organizationIds);
+		if (firstPage == null) {
+			return null;
+		}
+		if (CollectionUtils.isEmpty(firstPage.getDevices())) {
+			return Collections.emptyList();
+		}
+		List<Device> fetchedDevices = new ArrayList<>(firstPage.getDevices());
+		int totalCount = Optional.ofNullable(firstPage.getTotalCount()).orElse(fetchedDevices.size());
+
+		List<Callable<DevicePage>> pageRequests = new ArrayList<>();
+		for (int offset : Util.getRemainingPageOffsets(totalCount, pageSize)) {
+			pageRequests.add(() -> this.fetchDevicePage(pageSize, offset, organizationIds));
+		}
+		if (pageRequests.isEmpty()) {
+			return fetchedDevices;
+		}
+		boolean complete = true;
+		for (Future<DevicePage> pageResult : this.devicePageExecutorService.invokeAll(pageRequests)) {
+			try {
+				DevicePage page = pageResult.get();
+				if (page == null) {
+					complete = false;
+				} else if (CollectionUtils.isNotEmpty(page.getDevices())) {
+					fetchedDevices.addAll(page.getDevices());
+				}
+			} catch (ExecutionException e) {
+				throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+			}
+		}
+
+		return complete ? fetchedDevices : null;
+	}
+
+	/**
+	 * Fetches a single {@code allDevices} page of the given organizations.
+	 * <p>A page returned without data is tracked as failed by {@link #requestStateHandler}, like a failed request.</p>
+	 *
+	 * @param pageSize the number of devices per page
+	 * @param offset the offset of the page
+	 * @param organizationIds the organization IDs used to filter the devices
+	 * @return the page, or {@code null} if it could not be loaded
+	 * @throws Exception if an unrecoverable error occurs while sending the page request
+	 */
+	private DevicePage fetchDevicePage(int pageSize, int offset, String... organizationIds) throws Exception {
+		String apiSection = getDevicePageSection(organizationIds, offset);
+		DevicePage page = this.sendRequest(apiSection, ApiConstant.GRAPHQL_ENDPOINT, GraphQLReq.getDevices(pageSize, offset, organizationIds), ResponseType.DEVICES);
+		if (page == null) {
+			this.requestStateHandler.pushErrorIfAbsent(apiSection, new IllegalStateException(String.format(Constant.FETCH_DEVICE_PAGE_FAILED, apiSection)));
+		}
+		return page;
+	}
+
+	/**
+	 * Builds the key a device page request is tracked under by {@link RequestStateHandler}.
+	 * <p>Organization batches never overlap, so the first organization ID and the offset identify the page.</p>
+	 *
+	 * @param organizationIds the organization IDs the page is filtered by
+	 * @param offset the offset of the page
+	 * @return the API section of the page request
+	 */
+	private static String getDevicePageSection(String[] organizationIds, int offset) {
+		return String.format(Constant.DEVICE_PAGE_SECTION_FORMAT, organizationIds.length > 0 ? organizationIds[0] : Constant.NOT_AVAILABLE, offset);
+	}
+
+	/**
+	 * Computes the total time the retries of a cycle may wait, a quarter of the given interval between two cycles.
+	 *
+	 * @param interval the interval (seconds) between two cycles
+	 * @return the total retry delay (ms) allowed per cycle
+	 */
+	static long getMaxRetryDelay(long interval) {
+		return Duration.ofSeconds(interval).toMillis() / 4;
+	}
+
 	/**
 	 * Sets up the data loader to collect and update data for aggregated devices.
 	 * <p>
-	 * This method initializes a single-thread executor and submits a {@link BiampWorkplaceDataLoader}
-	 * task if not already initialized. It also updates the next collection time for data retrieval
-	 * and refreshes the timestamp used to validate collected statistics.
+	 * This method creates and starts the scheduled {@link BiampWorkplaceDataLoader} if not already initialized.
+	 * It also refreshes the timestamp used to validate collected statistics, which starts a cycle right away
+	 * if the loader was paused.
 	 * </p>
 	 */
 	private void setupDataLoader() {
-		if (this.executorService == null) {
-			this.executorService = Executors.newFixedThreadPool(1);
-			this.dataLoader = new BiampWorkplaceDataLoader(this, this.devices);
-			this.executorService.submit(this.dataLoader);
+		if (this.dataLoader == null) {
+			this.dataLoader = new BiampWorkplaceDataLoader(this, this.deviceSnapshot, this.nextFirmwareCache);
+			this.dataLoader.start();
 		}
-		this.dataLoader.setNextCollectionTime(System.currentTimeMillis());
 		this.dataLoader.updateValidRetrieveStatisticsTimestamp();
 	}
 
@@ -521,17 +1207,19 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 	 * @return map of organization property keys and values
 	 */
 	private Map<String, String> getOrganizationProperties() {
-		if (CollectionUtils.isEmpty(this.organizations)) {
+		List<Organization> currentOrganizations = this.organizations;
+		if (CollectionUtils.isEmpty(currentOrganizations)) {
 			this.logger.warn(Constant.ORGANIZATIONS_EMPTY_WARNING);
 			return Collections.emptyMap();
 		}
-		Map<String, String> properties = new HashMap<>();
-		for (int i = 0; i < this.organizations.size(); i++) {
-			Organization organization = this.organizations.get(i);
-			String groupName = String.format(Constant.GROUP_FORMAT, Constant.ORGANIZATION_GROUPS, i + 1);
-			properties.putAll(MonitoringUtil.generateProperties(
-					OrganizationProperty.values(), groupName, property -> MonitoringUtil.mapToOrganizationProperty(organization, property)
-			));
+		OrganizationProperty[] organizationProperties = OrganizationProperty.values();
+		Map<String, String> properties = new HashMap<>(MonitoringUtil.getMapCapacity(currentOrganizations.size() * organizationProperties.length));
+		for (int i = 0; i < currentOrganizations.size(); i++) {
+			Organization organization = currentOrganizations.get(i);
+			String groupName = PropertyKeyTable.getGroupName(Constant.ORGANIZATION_GROUPS, i + 1);
+			MonitoringUtil.putProperties(
+					properties, organizationProperties, groupName, property -> MonitoringUtil.mapToOrganizationProperty(organization, property)
+			);
 		}
 
 		return properties;
@@ -571,14 +1259,15 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 	 * to its corresponding value from the provided {@link Device}.
 	 * </p>
 	 *
+	 * @param statistics the map to put the overview property keys and values into
 	 * @param device the device for which overview properties are generated; must not be {@code null}
-	 * @return a map of overview property keys and values for the specified device
 	 */
-	private Map<String, String> getOverviewProperties(Device device) {
-		return MonitoringUtil.generateProperties(
+	private void putOverviewProperties(Map<String, String> statistics, Device device) {
+		MonitoringUtil.putProperties(
+				statistics,
 				OverviewProperty.values(),
 				null,
-				property -> MonitoringUtil.mapToOverviewProperty(device, property)
+				property -> MonitoringUtil.mapToOverviewProperty(device, property, this.locationPathIndex)
 		);
 	}
 
@@ -589,11 +1278,12 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 	 * to its corresponding value from the provided {@link Device}.
 	 * </p>
 	 *
+	 * @param statistics the map to put the firmware property keys and values into
 	 * @param device the device for which firmware properties are generated; must not be {@code null}
-	 * @return a map of firmware property keys and values for the specified device
 	 */
-	private Map<String, String> getFirmwareProperties(Device device) {
-		return MonitoringUtil.generateProperties(
+	private void putFirmwareProperties(Map<String, String> statistics, Device device) {
+		MonitoringUtil.putProperties(
+				statistics,
 				FirmwareProperty.values(),
 				Constant.FIRMWARE_GROUP,
 				property -> MonitoringUtil.mapToFirmwareProperty(device, property)
@@ -607,11 +1297,12 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 	 * to its corresponding value from the provided {@link Device}.
 	 * </p>
 	 *
+	 * @param statistics the map to put the status property keys and values into
 	 * @param device the device for which status properties are generated; must not be {@code null}
-	 * @return a map of status property keys and values for the specified device
 	 */
-	private Map<String, String> getStatusProperties(Device device) {
-		return MonitoringUtil.generateProperties(
+	private void putStatusProperties(Map<String, String> statistics, Device device) {
+		MonitoringUtil.putProperties(
+				statistics,
 				StatusProperty.values(),
 				Constant.STATUS_GROUP,
 				property -> MonitoringUtil.mapToStatusProperty(device, property)
@@ -668,40 +1359,119 @@ public class BiampWorkplaceCommunicator extends RestCommunicator implements Moni
 		return controllableProperties;
 	}
 
+	/**
+	 * Refreshes the authentication tokens if they are invalid, waiting for any refresh already in progress.
+	 *
+	 * @throws FailedLoginException if no valid tokens could be obtained
+	 * @throws Exception if an unrecoverable error occurs while refreshing the tokens
+	 */
+	public void ensureValidAuthentication() throws Exception {
+		this.tokenManager.ensureValid();
+	}
+
+	/**
+	 * Requests new authentication tokens from the OAuth endpoint.
+	 *
+	 * <p>
+	 * The request is tracked by the given handler rather than by {@link #requestStateHandler}, so a refresh running
+	 * on the token manager thread never adds to or clears the requests of a monitoring cycle.
+	 * </p>
+	 *
+	 * @param refreshToken the refresh token to exchange
+	 * @param requestStateHandler the handler tracking the request
+	 * @return the new authentication, or {@code null} if the response could not be mapped
+	 * @throws Exception if an unrecoverable error occurs while sending the request
+	 */
+	Authentication requestAuthentication(String refreshToken, RequestStateHandler requestStateHandler) throws Exception {
+		final String authUrl = String.format("%s://%s/%s", this.getProtocol(), this.oauthHostname, ApiConstant.OAUTH_ENDPOINT);
+		AuthenticationReq authRequest = new AuthenticationReq(this.getLogin(), refreshToken);
+		return this.sendRequest(authUrl, authUrl, authRequest.toFormData(), ResponseType.AUTHENTICATION, requestStateHandler, this.retryPolicy);
+	}
+
 	/**
 	 * Sends a POST request to the given endpoint and maps the JSON response into the specified type.
 	 * <p>
-	 * The request is tracked by {@link RequestStateHandler}, and errors are logged
+	 * The request is tracked by {@link RequestStateHandler} under its endpoint, and errors are logged
 	 * or rethrown depending on their type. If the response is {@code null}, a warning is logged.
+	 * Idempotent queries failing with a transient error are sent again as decided by {@link #retryPolicy}.
 	 *
 	 * @param <T> the expected response type
 	 * @param endpoint the target endpoint URL
 	 * @param request the request body to send
 	 * @param responseType the type of response to deserialize into
 	 * @return the mapped response object, or {@code null} if deserialization failed
-	 * @throws Exception if an unrecoverable error occurs while sending the request
+	 * @throws Exception if an unrecoverable error occurs while sending the request, or if interrupted while waiting to retry
 	 */
 	public <T> T sendRequest(String endpoint, Object request, ResponseType responseType) throws Exception {
+		return this.sendRequest(endpoint, endpoint, request, responseType);
+	}
+
+	/**
+	 * Sends a POST request to the given endpoint, tracked by {@link RequestStateHandler} under the given API section.
+	 * <p>
+	 * Requests in flight at the same time, such as the pages of a fetch, must use different API sections,
+	 * otherwise the outcome of one request would overwrite the outcome of another.
+	 * </p>
+	 *
+	 * @param <T> the expected response type
+	 * @param apiSection the key the request is tracked under
+	 * @param endpoint the target endpoint URL
+	 * @param request the request body to send
+	 * @param responseType the type of response to deserialize into
+	 * @return the mapped response object, or {@code null} if deserialization failed
+	 * @throws Exception if an unrecoverable error occurs while sending the request, or if interrupted while waiting to retry
+	 * @see #sendRequest(String, Object, ResponseType)
+	 */
+	public <T> T sendRequest(String apiSection, String endpoint, Object request, ResponseType responseType) throws Exception {
+		return this.sendRequest(apiSection, endpoint, request, responseType, this.requestStateHandler, this.retryPolicy);
+	}
+
+	/**
+	 * Sends a POST request to the given endpoint, tracked by the given {@link RequestStateHandler} under the given API section
+	 * and retried as decided by the given {@link RetryPolicy}.
+	 * <p>
+	 * Used by the {@link BiampWorkplaceDataLoader}, so its requests are not counted by {@link #requestStateHandler}
+	 * when deciding whether every request of a monitoring cycle failed, and do not use the retries of {@link #retryPolicy}.
+	 * </p>
+	 *
+	 * @param <T> the expected response type
+	 * @param apiSection the key the request is tracked under
+	 * @param endpoint the target endpoint URL
+	 * @param request the request body to send
+	 * @param responseType the type of response to deserialize into
+	 * @param requestStateHandler the handler tracking the request
+	 * @param retryPolicy the policy deciding whether and when the request is sent again
+	 * @return the mapped response object, or {@code null} if deserialization failed
+	 * @throws Exception if an unrecoverable error occurs while sending the request, or if interrupted while waiting to retry
+	 * @see #sendRequest(String, String, Object, ResponseType)
+	 */
+	<T> T sendRequest(String apiSection, String endpoint, Object request, ResponseType responseType, RequestStateHandler requestStateHandler,
+			RetryPolicy retryPolicy) throws Exception {
 		String responseClassName = responseType.getClazz().getSimpleName();
-		try {
-			this.requestStateHandler.pushRequest(endpoint);
-			String jsonResponse = super.doPost(endpoint, request, String.class);
-			JsonNode responseNode = responseType.getPaths(this.objectMapper.readTree(jsonResponse));
-			@SuppressWarnings("unchecked")
-			T response = responseType.isCollection()
-					? (T) this.objectMapper.convertValue(responseNode, responseType.getTypeRef(this.objectMapper))
-					: (T) this.objectMapper.treeToValue(responseNode, responseType.getClazz());
-
-			if (response == null) {
-				this.logger.warn(String.format(Constant.SENT_REQUEST_NULL_WARNING, endpoint, responseClassName));
+		requestStateHandler.pushRequest(apiSection);
+		long retryDelay = 0;
+		for (int retries = 0; ; retries++) {
+			try {
+				byte[] responseBody = super.doPost(endpoint, request, byte[].class);
+				T response = responseType.getReader().readValue(responseBody);
+
+				if (response == null) {
+					this.logger.warn(String.format(Constant.SENT_REQUEST_NULL_WARNING, endpoint, responseClassName));
+				}
+				requestStateHandler.resolveError(apiSection);
+
+				return response;
+			} catch (Exception e) {
+				//	Only idempotent queries are sent again, a mutation may already have been applied
+				retryDelay = responseType.isIdempotentQuery() ? retryPolicy.getRetryDelay(e, retries, retryDelay) : -1;
+				if (retryDelay < 0) {
+					requestStateHandler.pushError(apiSection, e);
+					this.logger.error(String.format(Constant.FETCH_DATA_FAILED, endpoint, responseClassName), e);
+					return null;
+				}
+				this.logger.warn(String.format(Constant.RETRY_REQUEST_WARNING, retryDelay, endpoint, responseClassName, retries + 1));
 			}
-			this.requestStateHandler.resolveError(endpoint);
-
-			return response;
-		} catch (Exception e) {
-			this.requestStateHandler.pushError(endpoint, e);
-			this.logger.error(String.format(Constant.FETCH_DATA_FAILED, endpoint, responseClassName), e);
-			return null;
+			Thread.sleep(retryDelay);
 		}
 	}
 }
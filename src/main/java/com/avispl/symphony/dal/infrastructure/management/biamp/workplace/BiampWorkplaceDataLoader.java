@@ -4,22 +4,46 @@
 package com.avispl.symphony.dal.infrastructure.management.biamp.workplace;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.DeviceSnapshot;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.NextFirmwareCache;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.RequestStateHandler;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.RetryPolicy;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.ApiConstant;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.Constant;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.utils.Util;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
-import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Firmware;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.requests.GraphQLReq;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.ResponseType;
 
 /**
  * This class implements a data loader that periodically collects settings data
  * from a list of Biamp devices via the {@link BiampWorkplaceDataLoader}.
+ * <p>
+ * Cycles are run by a single-thread {@link ScheduledExecutorService} with a fixed delay of
+ * {@link #POLLING_CYCLE_INTERVAL} between the end of a cycle and the start of the next one. While the
+ * aggregator is paused, scheduled cycles return immediately; when it resumes, the schedule is restarted
+ * so a cycle runs right away and the next ones follow with the same fixed delay.
+ * </p>
  * This class is thread-safe with the use of {@code volatile} for key flags.
  *
  * @author Kevin / Symphony Dev Team
@@ -31,93 +55,220 @@ public class BiampWorkplaceDataLoader implements Runnable {
 
 	private final Log logger = LogFactory.getLog(this.getClass());
 	private final BiampWorkplaceCommunicator communicator;
-	private final List<Device> devices;
+	private final AtomicReference<DeviceSnapshot> deviceSnapshot;
+	private final NextFirmwareCache nextFirmwareCache;
+	private final ScheduledExecutorService scheduler;
+	private final ThreadPoolExecutor lookupExecutorService;
+	private final RequestStateHandler requestStateHandler;
+	private final RetryPolicy retryPolicy;
+	private final Map<String, Exception> lookupErrors;
 
+	private ScheduledFuture<?> scheduledCycles;
 	private volatile boolean inProgress;
 	private volatile boolean devicePaused;
 	private volatile long validRetrieveStatisticsTimestamp;
-	private volatile boolean cycleExecuted;
-	private volatile long nextCollectionTime;
 
-	public BiampWorkplaceDataLoader(BiampWorkplaceCommunicator communicator, List<Device> devices) {
+	public BiampWorkplaceDataLoader(BiampWorkplaceCommunicator communicator, AtomicReference<DeviceSnapshot> deviceSnapshot, NextFirmwareCache nextFirmwareCache) {
 		this.communicator = communicator;
-		this.devices = devices;
+		this.deviceSnapshot = deviceSnapshot;
+		this.nextFirmwareCache = nextFirmwareCache;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor();
+		this.lookupExecutorService = new ThreadPoolExecutor(communicator.getFirmwareCheckParallelism(), communicator.getFirmwareCheckParallelism(),
+				0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+		this.requestStateHandler = new RequestStateHandler();
+		this.retryPolicy = new RetryPolicy(communicator.getRequestMaxRetries(), communicator.getRequestRetryBudget(),
+				BiampWorkplaceCommunicator.getMaxRetryDelay(TimeUnit.MILLISECONDS.toSeconds(POLLING_CYCLE_INTERVAL)));
+		this.lookupErrors = new ConcurrentHashMap<>();
 
-		this.inProgress = true;
+		this.inProgress = false;
 		this.devicePaused = true;
-		this.nextCollectionTime = System.currentTimeMillis();
-		this.cycleExecuted = false;
 	}
 
-	/**
-	 * Sets {@link #nextCollectionTime} value
-	 *
-	 * @param nextCollectionTime new value of {@link #nextCollectionTime}
-	 */
-	public void setNextCollectionTime(long nextCollectionTime) {
-		this.nextCollectionTime = nextCollectionTime;
+	/** Starts the periodic data collection, if not already started. */
+	public synchronized void start() {
+		if (this.inProgress) {
+			return;
+		}
+		this.inProgress = true;
+		this.scheduleCycles();
 	}
 
+	/**
+	 * Runs a single collection cycle, unless the loader is stopped or the aggregator is paused.
+	 * <p>The reported cycle duration only covers the collection work itself.</p>
+	 */
 	@Override
 	public void run() {
-		while (this.inProgress) {
+		if (!this.inProgress || Thread.currentThread().isInterrupted()) {
+			this.logger.debug("Main data collection thread is not in progress, skipping the cycle.");
+			return;
+		}
+		this.updateAggregatorStatus();
+		if (this.devicePaused) {
+			this.logger.debug("The device communicator is paused, data collector is not active.");
+			return;
+		}
+		try {
 			long startCycle = System.currentTimeMillis();
-			Util.delayExecution(500);
-			if (!this.inProgress) {
-				this.logger.debug("Main data collection thread is not in progress, breaking.");
-				break;
-			}
-			this.updateAggregatorStatus();
-			if (this.devicePaused) {
-				this.logger.debug("The device communicator is paused, data collector is not active.");
-				continue;
-			}
-
-			long currentTimestamp = System.currentTimeMillis();
-			if (!this.cycleExecuted && this.nextCollectionTime < currentTimestamp) {
-				this.collectAggregatedDeviceData();
-				this.cycleExecuted = true;
-			}
-
-			if (!this.inProgress) {
-				this.logger.debug("Main data collection thread is not in progress, breaking.");
-				break;
-			}
-			while (this.nextCollectionTime > System.currentTimeMillis()) {
-				Util.delayExecution(1000);
-			}
-			if (this.cycleExecuted) {
-				this.nextCollectionTime = System.currentTimeMillis() + POLLING_CYCLE_INTERVAL;
-				this.communicator.setLastMonitoringCycleDuration(System.currentTimeMillis() - startCycle);
-				this.cycleExecuted = false;
-			}
+			this.communicator.ensureValidAuthentication();
+			this.collectAggregatedDeviceData();
+			this.communicator.setLastMonitoringCycleDuration(System.currentTimeMillis() - startCycle);
+		} catch (Exception e) {
+			//	Keep the fixed-delay schedule alive, an exception would cancel every subsequent cycle
+			this.logger.error(Constant.COLLECT_AGGREGATED_DATA_FAILED, e);
 		}
 	}
 
-	/** Stops the data collection process. */
-	public void stop() {
+	/** Stops the data collection process and interrupts any cycle in progress. */
+	public synchronized void stop() {
 		this.inProgress = false;
+		this.scheduler.shutdownNow();
+		this.lookupExecutorService.shutdownNow();
+	}
+
+	/**
+	 * Resizes the threads looking up {@code nextFirmware} batches, taking effect from the next batch started.
+	 *
+	 * @param parallelism the maximum number of batches looked up at the same time, greater than {@code 0}
+	 */
+	public void setLookupParallelism(int parallelism) {
+		Util.setFixedPoolSize(this.lookupExecutorService, parallelism);
 	}
 
-	/** Marks the device as paused for {@link #RETRIEVE_STATISTICS_TIMEOUT} from now. */
+	/**
+	 * Marks the device as active for {@link #RETRIEVE_STATISTICS_TIMEOUT} from now.
+	 * If the aggregator was paused, the pending scheduled cycle is cancelled and the schedule restarted,
+	 * so a collection cycle starts right away instead of waiting for the end of the current delay.
+	 */
 	public synchronized void updateValidRetrieveStatisticsTimestamp() {
+		boolean wasPaused = this.devicePaused;
 		this.validRetrieveStatisticsTimestamp = System.currentTimeMillis() + RETRIEVE_STATISTICS_TIMEOUT;
 		this.updateAggregatorStatus();
+		if (wasPaused && !this.devicePaused && this.inProgress && !this.scheduler.isShutdown()) {
+			this.scheduledCycles.cancel(false);
+			this.scheduleCycles();
+		}
 	}
 
-	/** Collects and updates settings data for all registered devices. */
+	/**
+	 * Schedules the collection cycles on {@link #scheduler}, the first one right away and the next ones
+	 * {@link #POLLING_CYCLE_INTERVAL} after the end of the previous one.
+	 */
+	private synchronized void scheduleCycles() {
+		this.scheduledCycles = this.scheduler.scheduleWithFixedDelay(this, 0, POLLING_CYCLE_INTERVAL, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Collects and updates settings data for all devices of the current {@link DeviceSnapshot}.
+	 * <p>
+	 * Devices with a valid entry in {@link #nextFirmwareCache} are served from it. The remaining devices are
+	 * looked up in batches of {@link BiampWorkplaceCommunicator#getFirmwareBatchSize()}, each batch being
+	 * a single aliased {@code nextFirmware} query, and successful lookups are cached. Up to
+	 * {@link BiampWorkplaceCommunicator#getFirmwareCheckParallelism()} batches are in flight at the same time,
+	 * and the devices of failed batches are recorded in {@link #lookupErrors} and logged by error.
+	 * </p>
+	 * <p>
+	 * Batches are tracked by {@link #requestStateHandler}, apart from the requests of the monitoring cycle,
+	 * under a key of their own, so the cycle is reported as failed only when every batch failed. They are retried
+	 * within the budget of {@link #retryPolicy}, renewed every cycle and separate from the one of the monitoring cycle.
+	 * </p>
+	 * <p>
+	 * No lock is held while requests are in flight. Results are then applied from {@link #nextFirmwareCache} to the
+	 * snapshot published at that time, so a snapshot swapped in during the sweep still gets them, but only on
+	 * devices whose firmware inputs still match the ones the lookup was made with.
+	 * </p>
+	 */
 	private void collectAggregatedDeviceData() {
-		synchronized (this.devices) {
-			for (Device device : this.devices) {
-				try {
-					GraphQLReq query = GraphQLReq.getNextFirmware(device.getId(), device.getStatus().getFirmware(), device.getFirmwarePublicKey());
-					Firmware nextFirmware = this.communicator.sendRequest(ApiConstant.GRAPHQL_ENDPOINT, query, ResponseType.NEXT_FIRMWARE);
-
-					device.setNextFirmware(nextFirmware);
-				} catch (Exception e) {
-					this.logger.error(String.format(Constant.FETCH_AGGREGATED_DATA_FAILED, device.getId()), e);
+		List<Device> pendingDevices = new ArrayList<>();
+		for (Device device : this.deviceSnapshot.get().getDevices()) {
+			if (!this.nextFirmwareCache.contains(device)) {
+				pendingDevices.add(device);
+			}
+		}
+		this.requestStateHandler.clearRequests();
+		this.retryPolicy.setMaxRetries(this.communicator.getRequestMaxRetries());
+		this.retryPolicy.setBudget(this.communicator.getRequestRetryBudget());
+		this.retryPolicy.resetBudget();
+		this.lookupErrors.clear();
+		int batchSize = this.communicator.getFirmwareBatchSize();
+		List<Callable<Object>> lookups = new ArrayList<>();
+		for (int from = 0; from < pendingDevices.size(); from += batchSize) {
+			List<Device> batch = pendingDevices.subList(from, Math.min(from + batchSize, pendingDevices.size()));
+			lookups.add(Executors.callable(() -> this.lookupNextFirmwares(batch)));
+		}
+		try {
+			for (Future<Object> lookup : this.lookupExecutorService.invokeAll(lookups)) {
+				lookup.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.logger.debug("Data loader interrupted while looking up next firmware, skipping the cycle.");
+			return;
+		} catch (ExecutionException e) {
+			this.logger.error(Constant.FETCH_NEXT_FIRMWARE_FAILED, e);
+		}
+		if (!this.lookupErrors.isEmpty()) {
+			this.logger.warn(String.format(Constant.NEXT_FIRMWARE_LOOKUP_ERRORS_WARNING, this.lookupErrors.size(), pendingDevices.size()));
+			this.logLookupErrors();
+		}
+		this.applyNextFirmwares();
+		this.requestStateHandler.verifyRequestState();
+	}
+
+	/**
+	 * Logs the devices recorded in {@link #lookupErrors}, grouped by the error their lookup failed with.
+	 */
+	private void logLookupErrors() {
+		Map<String, String> deviceIdsByError = this.lookupErrors.entrySet().stream()
+				.collect(Collectors.groupingBy(entry -> String.valueOf(entry.getValue().getMessage()), TreeMap::new,
+						Collectors.mapping(Map.Entry::getKey, Collectors.joining(Constant.COMMA))));
+		deviceIdsByError.forEach((error, deviceIds) -> this.logger.warn(String.format(Constant.NEXT_FIRMWARE_LOOKUP_CAUSE_WARNING, deviceIds, error)));
+	}
+
+	/**
+	 * Looks up the next firmware of a batch of devices with a single aliased query and caches the results.
+	 * <p>Devices whose alias is missing or {@code null} in the response are recorded in {@link #lookupErrors} and not cached.</p>
+	 *
+	 * @param batch the devices to look up
+	 */
+	private void lookupNextFirmwares(List<Device> batch) {
+		try {
+			GraphQLReq query = GraphQLReq.getNextFirmwares(batch);
+			String apiSection = String.format(Constant.NEXT_FIRMWARE_SECTION_FORMAT, batch.get(0).getId());
+			Map<String, Device> aliasedDevices = this.communicator.sendRequest(apiSection, ApiConstant.GRAPHQL_ENDPOINT, query, ResponseType.NEXT_FIRMWARES,
+					this.requestStateHandler, this.retryPolicy);
+			if (aliasedDevices == null) {
+				batch.forEach(device -> this.lookupErrors.put(device.getId(), new IllegalStateException(Constant.FETCH_NEXT_FIRMWARE_FAILED)));
+				return;
+			}
+			for (int i = 0; i < batch.size(); i++) {
+				Device device = batch.get(i);
+				Device aliasedDevice = aliasedDevices.get(GraphQLReq.getNextFirmwareAlias(i));
+				if (aliasedDevice == null) {
+					//	A missing or null alias is a failed lookup, such as a per-alias GraphQL error, not an absent next firmware
+					this.lookupErrors.put(device.getId(), new IllegalStateException(String.format(Constant.NEXT_FIRMWARE_ALIAS_MISSING, GraphQLReq.getNextFirmwareAlias(i))));
+					continue;
 				}
+				this.nextFirmwareCache.put(device, aliasedDevice.getNextFirmware());
 			}
+		} catch (Exception e) {
+			String deviceIds = batch.stream().map(Device::getId).collect(Collectors.joining(Constant.COMMA));
+			this.logger.error(String.format(Constant.FETCH_AGGREGATED_DATA_FAILED, deviceIds), e);
+			batch.forEach(device -> this.lookupErrors.put(device.getId(), e));
+		}
+	}
+
+	/**
+	 * Applies the cached next firmware lookups to the currently published {@link DeviceSnapshot}.
+	 * <p>
+	 * {@link NextFirmwareCache#restore(Device)} only applies a lookup made with the current firmware revision,
+	 * public key, channel and assigned firmware of the device, so a device replaced by a refresh during the sweep
+	 * never gets the result computed for its previous state.
+	 * </p>
+	 */
+	private void applyNextFirmwares() {
+		for (Device device : this.deviceSnapshot.get().getDevices()) {
+			this.nextFirmwareCache.restore(device);
 		}
 	}
 
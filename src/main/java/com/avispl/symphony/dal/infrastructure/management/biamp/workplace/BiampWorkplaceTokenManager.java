@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.security.auth.login.FailedLoginException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.RequestStateHandler;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.Constant;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.Authentication;
+
+/**
+ * This class keeps the OAuth tokens of the {@link BiampWorkplaceCommunicator} valid.
+ * <p>
+ * Once started, tokens are refreshed on a single-thread {@link ScheduledExecutorService} ahead of their expiry,
+ * so {@link #getAccessToken()} always returns a valid token without blocking. A refresh that fails is retried
+ * after {@link #RETRY_DELAY}. Refreshes are single-flight: a caller of {@link #ensureValid()} that finds the
+ * tokens invalid while another refresh is in progress waits for it and uses its result. Once {@link #stop()} is
+ * called, a refresh still in flight does not publish its tokens.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+public class BiampWorkplaceTokenManager {
+	/** Time (ms) before the access token expiry at which it is refreshed. */
+	private static final long REFRESH_MARGIN = Duration.ofMinutes(2).toMillis();
+	/** Minimum delay (ms) between two scheduled refreshes. */
+	private static final long MIN_REFRESH_DELAY = Duration.ofSeconds(10).toMillis();
+	/** Delay (ms) before retrying a failed refresh. */
+	private static final long RETRY_DELAY = Duration.ofSeconds(30).toMillis();
+
+	private final Log logger = LogFactory.getLog(this.getClass());
+	private final BiampWorkplaceCommunicator communicator;
+	private final ReentrantLock refreshLock;
+	/** Tracks the refresh requests, apart from the requests of the monitoring cycles. */
+	private final RequestStateHandler requestStateHandler;
+
+	private volatile Authentication authentication;
+	private ScheduledExecutorService scheduler;
+	private ScheduledFuture<?> scheduledRefresh;
+	private boolean stopped;
+
+	public BiampWorkplaceTokenManager(BiampWorkplaceCommunicator communicator) {
+		this.communicator = communicator;
+		this.refreshLock = new ReentrantLock();
+		this.requestStateHandler = new RequestStateHandler();
+		this.authentication = new Authentication();
+	}
+
+	/**
+	 * Retrieves the current access token, without blocking.
+	 *
+	 * @return the current access token, or {@code null} if no token was obtained yet
+	 */
+	public String getAccessToken() {
+		return this.authentication.getAccessToken();
+	}
+
+	/**
+	 * Sets the refresh token used for the next refresh, if the current tokens are invalid.
+	 * <p>The token is set under {@link #refreshLock}, so a refresh in progress never reads it half way.</p>
+	 *
+	 * @param refreshToken the refresh token to use
+	 */
+	public void setRefreshTokenIfInvalid(String refreshToken) {
+		this.refreshLock.lock();
+		try {
+			Authentication current = this.authentication;
+			if (current.isInvalid()) {
+				current.setRefreshToken(refreshToken);
+			}
+		} finally {
+			this.refreshLock.unlock();
+		}
+	}
+
+	/** Starts the scheduled refresh of the tokens, with a first refresh right away. */
+	public synchronized void start() {
+		this.stopped = false;
+		if (this.scheduler != null) {
+			return;
+		}
+		this.scheduler = Executors.newSingleThreadScheduledExecutor();
+		this.scheduleRefresh(0);
+	}
+
+	/**
+	 * Stops the scheduled refresh of the tokens and forgets them.
+	 * <p>A refresh still in flight is not waited for; its tokens are dropped by {@link #publish(Authentication)}.</p>
+	 */
+	public synchronized void stop() {
+		this.stopped = true;
+		if (this.scheduler != null) {
+			this.scheduler.shutdownNow();
+			this.scheduler = null;
+			this.scheduledRefresh = null;
+		}
+		this.authentication = new Authentication();
+	}
+
+	/**
+	 * Refreshes the tokens on the calling thread if they are invalid.
+	 * <p>If another refresh is already in progress, waits for it instead of starting a new one.</p>
+	 *
+	 * @throws FailedLoginException if the tokens are still invalid after the refresh
+	 * @throws Exception if an unrecoverable error occurs while refreshing, such as a rejected refresh token
+	 */
+	public void ensureValid() throws Exception {
+		Authentication current = this.authentication;
+		if (!current.isInvalid()) {
+			return;
+		}
+		this.refresh(current);
+		if (this.authentication.isInvalid()) {
+			throw new FailedLoginException(Constant.OBTAIN_TOKENS_FAILED);
+		}
+	}
+
+	/**
+	 * Refreshes the tokens, unless they were already refreshed by another caller since {@code expected} was read.
+	 * <p>
+	 * On success, the next refresh is scheduled {@link #REFRESH_MARGIN} before the new access token expires.
+	 * On failure, the current refresh token is kept and a new attempt is scheduled after {@link #RETRY_DELAY}.
+	 * </p>
+	 *
+	 * @param expected the authentication the caller found outdated
+	 * @throws Exception if an unrecoverable error occurs while sending the request
+	 */
+	private void refresh(Authentication expected) throws Exception {
+		this.refreshLock.lock();
+		try {
+			Authentication current = this.authentication;
+			if (current != expected && !current.isInvalid()) {
+				return;
+			}
+			this.logger.info(Constant.REFRESHING_TOKENS_INFO);
+			long requestedAt = System.currentTimeMillis();
+			Authentication response;
+			try {
+				this.requestStateHandler.clearRequests();
+				response = this.communicator.requestAuthentication(current.getRefreshToken(), this.requestStateHandler);
+			} catch (Exception e) {
+				this.scheduleRefresh(RETRY_DELAY);
+				throw e;
+			}
+			if (response == null || response.getAccessToken() == null) {
+				this.logger.warn(String.format(Constant.REFRESH_TOKENS_FAILED_WARNING, TimeUnit.MILLISECONDS.toSeconds(RETRY_DELAY)));
+				this.scheduleRefresh(RETRY_DELAY);
+				return;
+			}
+			response.setIssuedAt(requestedAt);
+			if (response.getRefreshToken() == null) {
+				response.setRefreshToken(current.getRefreshToken());
+			}
+			this.publish(response);
+		} finally {
+			this.refreshLock.unlock();
+		}
+	}
+
+	/**
+	 * Publishes the given tokens and schedules their refresh, unless the manager was stopped meanwhile.
+	 * <p>Synchronized with {@link #stop()}, so tokens obtained by a refresh that outlived it are never published.</p>
+	 *
+	 * @param authentication the freshly obtained tokens
+	 */
+	private synchronized void publish(Authentication authentication) {
+		if (this.stopped) {
+			return;
+		}
+		this.authentication = authentication;
+		this.scheduleRefresh(this.getRefreshDelay(authentication));
+	}
+
+	/**
+	 * Refreshes the tokens on the scheduler thread; failures are logged and retried later.
+	 */
+	private void refreshInBackground() {
+		try {
+			this.refresh(this.authentication);
+		} catch (Exception e) {
+			this.logger.error(Constant.REFRESH_TOKENS_FAILED, e);
+		}
+	}
+
+	/**
+	 * Computes the delay until the given tokens should be refreshed.
+	 *
+	 * @param authentication the freshly obtained tokens
+	 * @return the delay (ms) until {@link #REFRESH_MARGIN} before the access token expires, at least {@link #MIN_REFRESH_DELAY}
+	 */
+	private long getRefreshDelay(Authentication authentication) {
+		if (authentication.getExpiresIn() == null) {
+			return MIN_REFRESH_DELAY;
+		}
+		long expiresAt = authentication.getIssuedAt() + authentication.getExpiresIn() * 1000L;
+		return Math.max(expiresAt - REFRESH_MARGIN - System.currentTimeMillis(), MIN_REFRESH_DELAY);
+	}
+
+	/**
+	 * Replaces the pending scheduled refresh, if the manager is started.
+	 *
+	 * @param delay the delay (ms) before the next refresh
+	 */
+	private synchronized void scheduleRefresh(long delay) {
+		if (this.scheduler == null || this.scheduler.isShutdown()) {
+			return;
+		}
+		if (this.scheduledRefresh != null) {
+			this.scheduledRefresh.cancel(false);
+		}
+		this.scheduledRefresh = this.scheduler.schedule(this::refreshInBackground, delay, TimeUnit.MILLISECONDS);
+	}
+}
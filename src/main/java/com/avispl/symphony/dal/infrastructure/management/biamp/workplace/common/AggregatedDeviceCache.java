@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.List;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.Constant;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+
+/**
+ * Cache of the {@link AggregatedDevice} built for each device.
+ * <p>
+ * Each entry remembers the {@link Device#getDisplayedValues()} it was built from and is only served while the
+ * device keeps equal values, so only the devices that changed have to be rebuilt. {@link #retain(DeviceSnapshot)}
+ * should be called with the snapshot being served, so entries of removed devices are dropped once per new snapshot.
+ * </p>
+ * <p>
+ * {@link #get(Device)} returns the cached instance itself, so a poll allocates nothing for unchanged devices.
+ * Callers only update its timestamp and the value of its {@link Constant#DATA_AGE} property, which is present
+ * from the first build on, so the properties map is never structurally changed once handed to Symphony.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+public class AggregatedDeviceCache {
+	/**
+	 * Device IDs and corresponding built aggregated devices
+	 */
+	private final SnapshotScopedEntries<Entry> entries = new SnapshotScopedEntries<>(Device::getId);
+
+	/**
+	 * Retrieves the aggregated device built for the given device, if the device did not change since.
+	 *
+	 * @param device the device to look up
+	 * @return the cached aggregated device, or {@code null} if none was built or the device changed
+	 */
+	public AggregatedDevice get(Device device) {
+		Entry entry = this.entries.get(device.getId());
+		return entry != null && entry.values.equals(device.getDisplayedValues()) ? entry.aggregatedDevice : null;
+	}
+
+	/**
+	 * Stores the aggregated device built for the given device along with its current displayed values.
+	 *
+	 * @param device the device the aggregated device was built from
+	 * @param aggregatedDevice the built aggregated device
+	 */
+	public void put(Device device, AggregatedDevice aggregatedDevice) {
+		this.entries.put(device.getId(), new Entry(device.getDisplayedValues(), aggregatedDevice));
+	}
+
+	/**
+	 * Drops the aggregated devices of devices removed from the fleet, which are no longer part of the given snapshot.
+	 *
+	 * @param snapshot the snapshot being served
+	 */
+	public void retain(DeviceSnapshot snapshot) {
+		this.entries.retain(snapshot);
+	}
+
+	/** Removes every cached aggregated device. */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Built aggregated device along with the displayed values of the device it was built from.
+	 */
+	private static class Entry {
+		private final List<Object> values;
+		private final AggregatedDevice aggregatedDevice;
+
+		private Entry(List<Object> values, AggregatedDevice aggregatedDevice) {
+			this.values = values;
+			this.aggregatedDevice = aggregatedDevice;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+
+/**
+ * Immutable view of the devices returned by one complete fetch cycle.
+ * <p>
+ * A new snapshot is built off to the side while devices are fetched and is then published with a single
+ * reference swap, so readers always see either the previous or the next complete fleet and never block.
+ * A refresh that fails leaves the previous snapshot in place, and {@link #getAge()} tells how old it is.
+ * Devices are also indexed by ID when the snapshot is created, so a single device is found in constant time.
+ * A device returned twice by the cloud, e.g. when it moved between two pages of a fetch, is only kept once.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+public class DeviceSnapshot {
+	private static final DeviceSnapshot EMPTY = new DeviceSnapshot(Collections.emptyList(), 0L);
+
+	private final List<Device> devices;
+	private final Map<String, Device> devicesById;
+	private final long createdAt;
+
+	public DeviceSnapshot(List<Device> devices) {
+		this(devices, System.currentTimeMillis());
+	}
+
+	private DeviceSnapshot(List<Device> devices, long createdAt) {
+		List<Device> uniqueDevices = new ArrayList<>(devices.size());
+		Map<String, Device> index = new HashMap<>((int) (devices.size() / 0.75f) + 1);
+		for (Device device : devices) {
+			//	The first occurrence wins, in both the list and the index
+			if (index.putIfAbsent(device.getId(), device) == null) {
+				uniqueDevices.add(device);
+			}
+		}
+		this.devices = Collections.unmodifiableList(uniqueDevices);
+		this.devicesById = Collections.unmodifiableMap(index);
+		this.createdAt = createdAt;
+	}
+
+	/**
+	 * Returns the snapshot holding no device.
+	 *
+	 * @return the empty snapshot
+	 */
+	public static DeviceSnapshot empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Retrieves {@link #devices}
+	 *
+	 * @return value of {@link #devices}, unmodifiable
+	 */
+	public List<Device> getDevices() {
+		return devices;
+	}
+
+	/**
+	 * Retrieves the device with the given ID.
+	 *
+	 * @param deviceId the ID of the device
+	 * @return the device, or {@code null} if this snapshot holds no device with this ID
+	 */
+	public Device getDevice(String deviceId) {
+		return deviceId != null ? this.devicesById.get(deviceId) : null;
+	}
+
+	/**
+	 * Retrieves {@link #createdAt}
+	 *
+	 * @return value of {@link #createdAt}
+	 */
+	public long getCreatedAt() {
+		return createdAt;
+	}
+
+	/**
+	 * Retrieves the time elapsed since this snapshot was created.
+	 *
+	 * @return the age of this snapshot, in milliseconds
+	 */
+	public long getAge() {
+		return System.currentTimeMillis() - this.createdAt;
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.Constant;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.utils.Util;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.QueryType;
+
+/**
+ * Registry of the GraphQL documents used by the adapter.
+ * <p>
+ * Every {@link QueryType} is read from the classpath and validated once, by {@link #load()}, and the query
+ * text is then served from an immutable map. Documents without variables also get their JSON request body
+ * serialized once, so they can be sent as-is, while documents with variables are split once into their
+ * variable definitions and selection set, so several of them can be combined by {@link #getBatchQuery(QueryType, List)}.
+ * </p>
+ * <p>This class is non-instantiable and provides only static methods.</p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+public class GraphQLQueryRegistry {
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\$(\\w+)");
+
+	private static volatile Map<QueryType, String> queries;
+	private static volatile Map<QueryType, String> requestBodies;
+	private static volatile Map<QueryType, BatchTemplate> batchTemplates;
+
+	private GraphQLQueryRegistry() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Loads and validates every {@link QueryType} document, if not already loaded.
+	 *
+	 * @throws IllegalStateException if a document is missing, empty or not a GraphQL operation
+	 */
+	public static synchronized void load() {
+		if (queries != null) {
+			return;
+		}
+		Map<QueryType, String> loadedQueries = new EnumMap<>(QueryType.class);
+		Map<QueryType, String> loadedRequestBodies = new EnumMap<>(QueryType.class);
+		Map<QueryType, BatchTemplate> loadedBatchTemplates = new EnumMap<>(QueryType.class);
+		for (QueryType queryType : QueryType.values()) {
+			String query = Util.readQueryFromGraphQLFile(queryType.getFileName());
+			if (!isValidQuery(query)) {
+				throw new IllegalStateException(Constant.INVALID_GRAPHQL_QUERY + queryType.getFileName());
+			}
+			loadedQueries.put(queryType, query);
+			if (queryType.isWithVariables()) {
+				loadedBatchTemplates.put(queryType, BatchTemplate.parse(query));
+			} else {
+				loadedRequestBodies.put(queryType, serialize(query));
+			}
+		}
+		requestBodies = Collections.unmodifiableMap(loadedRequestBodies);
+		batchTemplates = Collections.unmodifiableMap(loadedBatchTemplates);
+		queries = Collections.unmodifiableMap(loadedQueries);
+	}
+
+	/**
+	 * Retrieves the query text of the given document.
+	 *
+	 * @param queryType the document to retrieve
+	 * @return the query text
+	 */
+	public static String getQuery(QueryType queryType) {
+		if (queries == null) {
+			load();
+		}
+		return queries.get(queryType);
+	}
+
+	/**
+	 * Retrieves the pre-serialized JSON request body of the given document.
+	 *
+	 * @param queryType the document to retrieve; must not take variables
+	 * @return the JSON request body containing the query
+	 * @throws IllegalArgumentException if the document takes variables
+	 */
+	public static String getRequestBody(QueryType queryType) {
+		if (queryType.isWithVariables()) {
+			throw new IllegalArgumentException(Constant.QUERY_WITH_VARIABLES_BODY_FAILED + queryType.getFileName());
+		}
+		if (requestBodies == null) {
+			load();
+		}
+		return requestBodies.get(queryType);
+	}
+
+	/**
+	 * Combines the given document several times into a single operation, one aliased selection per alias.
+	 * <p>
+	 * The selection set of the document is repeated for every alias, with its root field renamed to the alias and
+	 * every variable suffixed with the index of the alias, such as {@code $deviceId0}, {@code $deviceId1}, and so on.
+	 * The variable definitions are repeated the same way, so each selection is sent with its own variables.
+	 * </p>
+	 *
+	 * @param queryType the document to combine; must take variables and select a single root field
+	 * @param aliases the alias of each selection, in order
+	 * @return the combined query text
+	 * @throws IllegalArgumentException if the document does not take variables
+	 */
+	public static String getBatchQuery(QueryType queryType, List<String> aliases) {
+		if (!queryType.isWithVariables()) {
+			throw new IllegalArgumentException(Constant.QUERY_WITHOUT_VARIABLES_BATCH_FAILED + queryType.getFileName());
+		}
+		if (batchTemplates == null) {
+			load();
+		}
+		BatchTemplate template = batchTemplates.get(queryType);
+		StringJoiner variableDefinitions = new StringJoiner(", ", template.operation + "(", ") {" + System.lineSeparator());
+		StringBuilder selections = new StringBuilder();
+		for (int i = 0; i < aliases.size(); i++) {
+			variableDefinitions.add(suffixVariables(template.variableDefinitions, i));
+			selections.append("  ").append(aliases.get(i)).append(": ")
+					.append(suffixVariables(template.selectionSet, i)).append(System.lineSeparator());
+		}
+		return variableDefinitions + selections.toString() + "}";
+	}
+
+	/**
+	 * Appends the given index to the name of every variable referenced or defined in the given text.
+	 *
+	 * @param text the variable definitions or selection set of a document
+	 * @param index the index to append
+	 * @return the text with suffixed variable names
+	 */
+	private static String suffixVariables(String text, int index) {
+		return VARIABLE_PATTERN.matcher(text).replaceAll(Matcher.quoteReplacement("$") + "$1" + index);
+	}
+
+	/**
+	 * Checks that the given text looks like a complete GraphQL operation: it starts with
+	 * {@code query} or {@code mutation} and its braces are balanced.
+	 *
+	 * @param query the query text to check
+	 * @return {@code true} if the query is valid, {@code false} otherwise
+	 */
+	static boolean isValidQuery(String query) {
+		if (query == null) {
+			return false;
+		}
+		String trimmedQuery = query.trim();
+		if (!trimmedQuery.startsWith("query") && !trimmedQuery.startsWith("mutation")) {
+			return false;
+		}
+		int depth = 0;
+		for (char c : trimmedQuery.toCharArray()) {
+			if (c == '{') {
+				depth++;
+			} else if (c == '}' && --depth < 0) {
+				return false;
+			}
+		}
+		return depth == 0;
+	}
+
+	/**
+	 * Serializes a variable-free GraphQL request body.
+	 *
+	 * @param query the query text
+	 * @return the JSON request body
+	 */
+	private static String serialize(String query) {
+		try {
+			return OBJECT_MAPPER.writeValueAsString(Collections.singletonMap("query", query));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(Constant.READ_GRAPHQL_QUERY_FAILED + query, e);
+		}
+	}
+
+	/**
+	 * Parts of a document with variables, used to combine it several times into a single operation.
+	 */
+	static class BatchTemplate {
+		final String operation;
+		final String variableDefinitions;
+		final String selectionSet;
+
+		private BatchTemplate(String operation, String variableDefinitions, String selectionSet) {
+			this.operation = operation;
+			this.variableDefinitions = variableDefinitions;
+			this.selectionSet = selectionSet;
+		}
+
+		/**
+		 * Splits a validated document into its operation, variable definitions and selection set.
+		 *
+		 * @param query the query text, such as {@code query name($a: ID!) { field(a: $a) { ... } }}
+		 * @return the parts of the document
+		 * @throws IllegalStateException if the document does not define variables
+		 */
+		static BatchTemplate parse(String query) {
+			String trimmedQuery = query.trim();
+			int openingBrace = trimmedQuery.indexOf('{');
+			int openingParenthesis = trimmedQuery.indexOf('(');
+			int closingParenthesis = trimmedQuery.lastIndexOf(')', openingBrace);
+			if (openingParenthesis < 0 || openingParenthesis > closingParenthesis) {
+				throw new IllegalStateException(Constant.INVALID_GRAPHQL_QUERY + trimmedQuery);
+			}
+			return new BatchTemplate(
+					trimmedQuery.substring(0, openingParenthesis).trim(),
+					trimmedQuery.substring(openingParenthesis + 1, closingParenthesis).trim(),
+					trimmedQuery.substring(openingBrace + 1, trimmedQuery.lastIndexOf('}')).trim()
+			);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Place;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Place.Hierarchy;
+
+/**
+ * Index of the location paths of {@link Place} hierarchies, keyed by {@link Place#getId()}.
+ * <p>
+ * A place hierarchy is listed from the place itself up to its root, while the location path is displayed from
+ * the root down, such as {@code Building / Floor / Room}. Each path is built once, without modifying the
+ * hierarchy, and is then shared by every device of the same place. An entry is rebuilt only when the fetched
+ * hierarchy of its place no longer matches the one it was built from.
+ * </p>
+ * <p>
+ * Each aggregator owns its index. {@link #retain(DeviceSnapshot)} should be called with the snapshot being served,
+ * so entries of places no device is located in anymore are dropped once per new snapshot.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+public class LocationPathIndex {
+	private static final String PATH_SEPARATOR = " / ";
+	/**
+	 * Place IDs and corresponding location paths
+	 */
+	private final SnapshotScopedEntries<Entry> entries = new SnapshotScopedEntries<>(LocationPathIndex::getPlaceId);
+
+	/**
+	 * Retrieves the location path of the given place.
+	 *
+	 * @param place the place to retrieve the path of; must not be {@code null}
+	 * @param formatter formats the joined path into its displayed value; should not capture any state,
+	 * as its result is shared by every device of the place
+	 * @return the formatted location path, as returned by {@code formatter}
+	 */
+	public String getPath(Place place, UnaryOperator<String> formatter) {
+		List<Hierarchy> hierarchy = place.getHierarchy();
+		if (place.getId() == null) {
+			return formatter.apply(joinPath(hierarchy));
+		}
+		Entry entry = this.entries.get(place.getId());
+		if (entry == null || !entry.matches(hierarchy)) {
+			entry = new Entry(hierarchy, formatter.apply(joinPath(hierarchy)));
+			this.entries.put(place.getId(), entry);
+		}
+		return entry.path;
+	}
+
+	/**
+	 * Drops the location paths of places that no device of the given snapshot is located in anymore,
+	 * such as a room whose last device was moved or removed.
+	 *
+	 * @param snapshot the snapshot being served
+	 */
+	public void retain(DeviceSnapshot snapshot) {
+		this.entries.retain(snapshot);
+	}
+
+	/** Removes every indexed location path. */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Retrieves the ID of the place the given device is located in.
+	 *
+	 * @param device the device to retrieve the place ID of
+	 * @return the place ID, or {@code null} if the device has no place
+	 */
+	private static String getPlaceId(Device device) {
+		return device.getPlace() != null ? device.getPlace().getId() : null;
+	}
+
+	/**
+	 * Joins the trimmed names of the given hierarchy from its root down to the place itself.
+	 *
+	 * @param hierarchy the hierarchy of a place, from the place up to its root; may be {@code null}
+	 * @return the joined path, or an empty string if the hierarchy holds no name
+	 */
+	private static String joinPath(List<Hierarchy> hierarchy) {
+		if (hierarchy == null) {
+			return "";
+		}
+		StringBuilder path = new StringBuilder();
+		for (int i = hierarchy.size() - 1; i >= 0; i--) {
+			Hierarchy level = hierarchy.get(i);
+			if (level == null || level.getName() == null) {
+				continue;
+			}
+			if (path.length() > 0) {
+				path.append(PATH_SEPARATOR);
+			}
+			path.append(level.getName().trim());
+		}
+		return path.toString();
+	}
+
+	/**
+	 * Location path along with an immutable copy of the hierarchy it was built from.
+	 */
+	private static class Entry {
+		private final String[] ids;
+		private final String[] names;
+		private final String path;
+
+		private Entry(List<Hierarchy> hierarchy, String path) {
+			int size = hierarchy != null ? hierarchy.size() : 0;
+			this.ids = new String[size];
+			this.names = new String[size];
+			for (int i = 0; i < size; i++) {
+				Hierarchy level = hierarchy.get(i);
+				this.ids[i] = level != null ? level.getId() : null;
+				this.names[i] = level != null ? level.getName() : null;
+			}
+			this.path = path;
+		}
+
+		/**
+		 * Checks whether the given hierarchy matches the one this entry was built from.
+		 *
+		 * @param hierarchy the freshly fetched hierarchy; may be {@code null}
+		 * @return {@code true} if every level has the same ID and name, {@code false} otherwise
+		 */
+		private boolean matches(List<Hierarchy> hierarchy) {
+			int size = hierarchy != null ? hierarchy.size() : 0;
+			if (size != this.ids.length) {
+				return false;
+			}
+			for (int i = 0; i < size; i++) {
+				Hierarchy level = hierarchy.get(i);
+				if (!Objects.equals(this.ids[i], level != null ? level.getId() : null)
+						|| !Objects.equals(this.names[i], level != null ? level.getName() : null)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Firmware;
+
+/**
+ * Cache of {@code nextFirmware} lookups for aggregated devices.
+ * <p>
+ * The server answer only depends on the device, its running firmware revision, its firmware public key,
+ * its channel and its assigned firmware. Each entry remembers these inputs and is only served while they
+ * are unchanged and the entry is younger than the configured time-to-live. {@link #invalidate(Collection)}
+ * should be called with every freshly fetched device list, so entries of changed or removed devices are
+ * dropped right away instead of waiting for the time-to-live.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+public class NextFirmwareCache {
+	/**
+	 * Map of device IDs and corresponding cached lookups
+	 */
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private volatile long timeToLive;
+
+	public NextFirmwareCache(long timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Sets {@link #timeToLive} value
+	 *
+	 * @param timeToLive new value of {@link #timeToLive}, in milliseconds
+	 */
+	public void setTimeToLive(long timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Checks whether a valid lookup is cached for the given device.
+	 *
+	 * @param device the device to check
+	 * @return {@code true} if a non-expired lookup with the same inputs is cached, {@code false} otherwise
+	 */
+	public boolean contains(Device device) {
+		return this.isValid(this.entries.get(device.getId()), device);
+	}
+
+	/**
+	 * Sets the cached next firmware on the given device, if a valid lookup with the same inputs is cached.
+	 * <p>
+	 * The entry is read once, so the firmware set is always the one computed from the inputs of the device,
+	 * even when the entry is replaced concurrently. A device whose inputs changed since the lookup keeps its
+	 * current next firmware.
+	 * </p>
+	 *
+	 * @param device the device to set the next firmware on
+	 * @return {@code true} if the next firmware was set, {@code false} otherwise
+	 */
+	public boolean restore(Device device) {
+		Entry entry = this.entries.get(device.getId());
+		if (!this.isValid(entry, device)) {
+			return false;
+		}
+		device.setNextFirmware(entry.firmware);
+		return true;
+	}
+
+	/**
+	 * Stores the next firmware lookup of the given device with its current inputs.
+	 *
+	 * @param device the device that was looked up
+	 * @param firmware the next firmware returned by the server; may be {@code null}
+	 */
+	public void put(Device device, Firmware firmware) {
+		this.entries.put(device.getId(), new Entry(getInputs(device), firmware, System.currentTimeMillis()));
+	}
+
+	/**
+	 * Removes the entries of devices that are no longer present, or whose firmware inputs changed,
+	 * compared to the given freshly fetched devices.
+	 *
+	 * @param devices the devices returned by the latest fetch
+	 */
+	public void invalidate(Collection<Device> devices) {
+		Map<String, List<String>> currentInputs = devices.stream()
+				.collect(Collectors.toMap(Device::getId, NextFirmwareCache::getInputs, (first, second) -> second));
+		this.entries.entrySet().removeIf(entry -> !entry.getValue().inputs.equals(currentInputs.get(entry.getKey())));
+	}
+
+	/** Removes every cached lookup. */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Checks whether the given entry was computed from the current inputs of the given device and is not expired.
+	 *
+	 * @param entry the cached entry of the device; may be {@code null}
+	 * @param device the device to check
+	 * @return {@code true} if the entry can be served for the device, {@code false} otherwise
+	 */
+	private boolean isValid(Entry entry, Device device) {
+		return entry != null && entry.inputs.equals(getInputs(device)) && entry.cachedAt + this.timeToLive >= System.currentTimeMillis();
+	}
+
+	/**
+	 * Collects the values the {@code nextFirmware} answer of a device depends on.
+	 *
+	 * @param device the device to collect the inputs from
+	 * @return the device ID, firmware revision, public key, channel ID and assigned firmware ID
+	 */
+	private static List<String> getInputs(Device device) {
+		return Arrays.asList(
+				device.getId(),
+				device.getStatus() != null ? device.getStatus().getFirmware() : null,
+				device.getFirmwarePublicKey(),
+				device.getChannel() != null ? device.getChannel().getId() : null,
+				device.getAssignedFirmware() != null ? device.getAssignedFirmware().getId() : null
+		);
+	}
+
+	/**
+	 * Cached lookup along with the inputs it was computed from.
+	 */
+	private static class Entry {
+		private final List<String> inputs;
+		private final Firmware firmware;
+		private final long cachedAt;
+
+		private Entry(List<String> inputs, Firmware firmware, long cachedAt) {
+			this.inputs = inputs;
+			this.firmware = firmware;
+			this.cachedAt = cachedAt;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Organization;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Profile;
+
+/**
+ * Cache of the user {@link Profile} and the {@link Organization} list assembled from it.
+ * <p>
+ * The profile rarely changes, so it is only fetched again once the cached one is older than the configured
+ * time-to-live. The fetched profile is then compared with the cached one by {@link Profile#getContentValues()},
+ * and the organization list is only rebuilt when the content changed.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+public class ProfileCache {
+	private volatile long timeToLive;
+	private volatile Profile profile;
+	private volatile List<Organization> organizations;
+	/** Content values of {@link #profile}, collected before the organizations were assembled from it. */
+	private volatile List<Object> contentValues;
+	private volatile long cachedAt;
+
+	public ProfileCache(long timeToLive) {
+		this.timeToLive = timeToLive;
+		this.organizations = Collections.emptyList();
+	}
+
+	/**
+	 * Sets {@link #timeToLive} value
+	 *
+	 * @param timeToLive new value of {@link #timeToLive}, in milliseconds
+	 */
+	public void setTimeToLive(long timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Retrieves {@link #profile}
+	 *
+	 * @return value of {@link #profile}, or {@code null} if no profile was cached yet
+	 */
+	public Profile getProfile() {
+		return profile;
+	}
+
+	/**
+	 * Retrieves {@link #organizations}
+	 *
+	 * @return value of {@link #organizations}, assembled from {@link #profile}
+	 */
+	public List<Organization> getOrganizations() {
+		return organizations;
+	}
+
+	/**
+	 * Checks whether a profile is cached and younger than the configured time-to-live.
+	 *
+	 * @return {@code true} if the cached profile can be used without fetching it again, {@code false} otherwise
+	 */
+	public boolean isValid() {
+		return this.profile != null && this.cachedAt + this.timeToLive >= System.currentTimeMillis();
+	}
+
+	/**
+	 * Updates the cache with a freshly fetched profile.
+	 * <p>
+	 * If the fetched profile has the same content as the cached one, the cached profile and organizations are
+	 * kept and only their time-to-live is renewed; otherwise the organizations are rebuilt from the fetched profile.
+	 * </p>
+	 *
+	 * @param fetchedProfile the profile returned by the server; must not be {@code null}
+	 * @param organizationsBuilder assembles the organization list of a profile
+	 * @return {@code true} if the content changed and the organizations were rebuilt, {@code false} otherwise
+	 */
+	public boolean update(Profile fetchedProfile, Function<Profile, List<Organization>> organizationsBuilder) {
+		List<Object> fetchedContentValues = fetchedProfile.getContentValues();
+		boolean changed = this.profile == null || !fetchedContentValues.equals(this.contentValues);
+		if (changed) {
+			this.organizations = organizationsBuilder.apply(fetchedProfile);
+			this.profile = fetchedProfile;
+			this.contentValues = fetchedContentValues;
+		}
+		this.cachedAt = System.currentTimeMillis();
+		return changed;
+	}
+
+	/** Removes the cached profile and organizations. */
+	public void clear() {
+		this.profile = null;
+		this.contentValues = null;
+		this.organizations = Collections.emptyList();
+		this.cachedAt = 0L;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.bases.BaseProperty;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.Constant;
+
+/**
+ * Table of the property keys and group names used by the monitoring properties.
+ * <p>
+ * The {@code group#name} key of each property of a {@link BaseProperty} enum is formatted once per group
+ * with {@link Constant#PROPERTY_FORMAT}, and each indexed group name once with {@link Constant#GROUP_FORMAT},
+ * so generating properties only looks keys up instead of formatting them on every poll.
+ * </p>
+ * <p>This class is non-instantiable and provides only static methods.</p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+public class PropertyKeyTable {
+	/** Keys of the properties without group, by enum type. */
+	private static final Map<Class<?>, List<String>> UNGROUPED_KEYS = new ConcurrentHashMap<>();
+	/** Keys of the properties by enum type, then by group name. */
+	private static final Map<Class<?>, Map<String, List<String>>> GROUPED_KEYS = new ConcurrentHashMap<>();
+	/** Indexed group names by group prefix, then by index. */
+	private static final Map<String, Map<Integer, String>> GROUP_NAMES = new ConcurrentHashMap<>();
+
+	private PropertyKeyTable() {
+		// Prevent instantiation
+	}
+
+	/**
+	 * Retrieves the keys of every property of the given enum type, indexed by {@link Enum#ordinal()}.
+	 *
+	 * @param <T> the enum type that extends {@link BaseProperty}
+	 * @param propertyType the enum type of the properties
+	 * @param groupName optional group name used to prefix each property's name; can be null
+	 * @return an unmodifiable list of the property keys, in the order of the enum constants
+	 */
+	public static <T extends Enum<T> & BaseProperty> List<String> getKeys(Class<T> propertyType, String groupName) {
+		if (groupName == null) {
+			return UNGROUPED_KEYS.computeIfAbsent(propertyType, type -> buildKeys(propertyType, null));
+		}
+		return GROUPED_KEYS.computeIfAbsent(propertyType, type -> new ConcurrentHashMap<>())
+				.computeIfAbsent(groupName, group -> buildKeys(propertyType, group));
+	}
+
+	/**
+	 * Retrieves the key of the given property.
+	 *
+	 * @param <T> the enum type that extends {@link BaseProperty}
+	 * @param property the property to retrieve the key of
+	 * @param groupName optional group name used to prefix the property's name; can be null
+	 * @return the {@code group#name} key of the property, or its name if {@code groupName} is null
+	 */
+	public static <T extends Enum<T> & BaseProperty> String getKey(T property, String groupName) {
+		return getKeys(property.getDeclaringClass(), groupName).get(property.ordinal());
+	}
+
+	/**
+	 * Retrieves the name of an indexed group, such as {@code Organization_01}.
+	 *
+	 * @param prefix the prefix of the group name
+	 * @param index the index of the group, starting from 1
+	 * @return the group name formatted with {@link Constant#GROUP_FORMAT}
+	 */
+	public static String getGroupName(String prefix, int index) {
+		return GROUP_NAMES.computeIfAbsent(prefix, group -> new ConcurrentHashMap<>())
+				.computeIfAbsent(index, i -> String.format(Constant.GROUP_FORMAT, prefix, i));
+	}
+
+	/**
+	 * Formats the keys of every property of the given enum type.
+	 *
+	 * @param <T> the enum type that extends {@link BaseProperty}
+	 * @param propertyType the enum type of the properties
+	 * @param groupName optional group name used to prefix each property's name; can be null
+	 * @return an unmodifiable list of the property keys, in the order of the enum constants
+	 */
+	private static <T extends Enum<T> & BaseProperty> List<String> buildKeys(Class<T> propertyType, String groupName) {
+		T[] properties = propertyType.getEnumConstants();
+		List<String> keys = new ArrayList<>(properties.length);
+		for (T property : properties) {
+			keys.add(groupName == null ? property.getName() : String.format(Constant.PROPERTY_FORMAT, groupName, property.getName()));
+		}
+		return Collections.unmodifiableList(keys);
+	}
+}
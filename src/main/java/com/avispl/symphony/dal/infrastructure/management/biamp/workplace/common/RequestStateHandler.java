@@ -35,8 +35,13 @@ public class RequestStateHandler {
 		this.sentRequests.add(endpoint);
 	}
 
+	/**
+	 * Forgets the requests sent and the errors recorded so far, before the requests of a new cycle are sent.
+	 * <p>Errors are keyed by request, so errors of requests that are not sent again must not outlive their cycle.</p>
+	 */
 	public void clearRequests() {
 		this.sentRequests.clear();
+		this.apiErrors.clear();
 	}
 
 	/**
@@ -67,6 +72,17 @@ public class RequestStateHandler {
 		this.apiErrors.put(apiSection, error);
 	}
 
+	/**
+	 * Records an error under the given {@code apiSection} in {@link #apiErrors}, unless an error is already recorded there.
+	 * <p>Used for a request that returned no data, so the error it failed with, if any, is kept as the cause.</p>
+	 *
+	 * @param apiSection the identifier of the API section (property group) where the error occurred
+	 * @param error the exception instance to record
+	 */
+	public void pushErrorIfAbsent(String apiSection, Exception error) {
+		this.apiErrors.putIfAbsent(apiSection, error);
+	}
+
 	/**
 	 * Remove an error from {@link #apiErrors}
 	 *
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * Retry policy of idempotent API queries failing with a transient error.
+ * <p>
+ * A request is retried on network errors and on {@code 408}, {@code 429}, {@code 500}, {@code 502}, {@code 503}
+ * and {@code 504} responses. Delays grow exponentially with decorrelated jitter, between {@link #BASE_DELAY} and
+ * {@link #MAX_DELAY}, unless the server asks for a specific delay through a {@code Retry-After} header. A server
+ * asking for more than {@link #MAX_RETRY_AFTER} is not retried.
+ * </p>
+ * <p>
+ * Each request is attempted at most {@link #maxRetries} extra times, and all requests of a cycle share a budget of
+ * {@link #budget} retries and {@link #maxTotalDelay} of waiting, reset by {@link #resetBudget()}, so a failing cloud
+ * does not stretch the cycle. Callers sleeping while holding a lock are therefore blocked for a bounded time.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+public class RetryPolicy {
+	/** Minimum delay (ms) before retrying a request. */
+	private static final long BASE_DELAY = 500;
+	/** Maximum delay (ms) before retrying a request, when the server does not ask for a delay. */
+	private static final long MAX_DELAY = Duration.ofSeconds(10).toMillis();
+	/** Maximum delay (ms) requested by a {@code Retry-After} header that is still waited for. */
+	private static final long MAX_RETRY_AFTER = Duration.ofSeconds(10).toMillis();
+	/** HTTP status codes of transient errors. */
+	private static final Set<Integer> RETRYABLE_STATUS_CODES = new HashSet<>(Arrays.asList(408, 429, 500, 502, 503, 504));
+
+	private volatile int maxRetries;
+	private volatile int budget;
+	private volatile long maxTotalDelay;
+	private int remainingRetries;
+	private long remainingDelay;
+
+	public RetryPolicy(int maxRetries, int budget, long maxTotalDelay) {
+		this.maxRetries = maxRetries;
+		this.budget = budget;
+		this.maxTotalDelay = maxTotalDelay;
+		this.resetBudget();
+	}
+
+	/**
+	 * Sets {@link #maxRetries} value
+	 *
+	 * @param maxRetries new value of {@link #maxRetries}
+	 */
+	public void setMaxRetries(int maxRetries) {
+		this.maxRetries = maxRetries;
+	}
+
+	/**
+	 * Sets {@link #budget} value, applied from the next {@link #resetBudget()}
+	 *
+	 * @param budget new value of {@link #budget}
+	 */
+	public void setBudget(int budget) {
+		this.budget = budget;
+	}
+
+	/**
+	 * Sets {@link #maxTotalDelay} value, applied from the next {@link #resetBudget()}
+	 *
+	 * @param maxTotalDelay new value of {@link #maxTotalDelay}, in milliseconds
+	 */
+	public void setMaxTotalDelay(long maxTotalDelay) {
+		this.maxTotalDelay = maxTotalDelay;
+	}
+
+	/** Restores the retries and the waiting time available to the requests of a new cycle. */
+	public synchronized void resetBudget() {
+		this.remainingRetries = this.budget;
+		this.remainingDelay = this.maxTotalDelay;
+	}
+
+	/**
+	 * Computes the delay before retrying a failed request, and consumes one retry and the delay from the budget.
+	 *
+	 * @param error the error the last attempt failed with
+	 * @param retries the number of retries already made for the request
+	 * @param previousDelay the delay (ms) before the previous retry, or {@code 0} for the first retry
+	 * @return the delay (ms) before the next attempt, or {@code -1} if the request should not be retried
+	 */
+	public long getRetryDelay(Exception error, int retries, long previousDelay) {
+		if (retries >= this.maxRetries || !isTransient(error)) {
+			return -1;
+		}
+		long retryAfter = getRetryAfter(error);
+		if (retryAfter > MAX_RETRY_AFTER) {
+			return -1;
+		}
+		long delay = retryAfter;
+		if (delay < 0) {
+			long upperBound = Math.max(previousDelay, BASE_DELAY) * 3;
+			delay = Math.min(MAX_DELAY, ThreadLocalRandom.current().nextLong(BASE_DELAY, upperBound + 1));
+		}
+		return this.consumeBudget(delay) ? delay : -1;
+	}
+
+	/**
+	 * Consumes one retry and the given delay from the budget of the current cycle.
+	 *
+	 * @param delay the delay (ms) before the retry
+	 * @return {@code true} if the budget allowed the retry, {@code false} if nothing was consumed
+	 */
+	private synchronized boolean consumeBudget(long delay) {
+		if (this.remainingRetries <= 0 || delay > this.remainingDelay) {
+			return false;
+		}
+		this.remainingRetries--;
+		this.remainingDelay -= delay;
+		return true;
+	}
+
+	/**
+	 * Checks whether the given error is transient, so the request may succeed when sent again.
+	 *
+	 * @param error the error to check
+	 * @return {@code true} for network errors and transient HTTP status codes, {@code false} otherwise
+	 */
+	private static boolean isTransient(Exception error) {
+		if (error instanceof ResourceNotReachableException) {
+			return true;
+		}
+		return error instanceof CommandFailureException && RETRYABLE_STATUS_CODES.contains(((CommandFailureException) error).getStatusCode());
+	}
+
+	/**
+	 * Retrieves the delay requested by the {@code Retry-After} header of the failed response, if any.
+	 * <p>Both the delay-seconds and the HTTP-date forms of the header are supported.</p>
+	 *
+	 * @param error the error the last attempt failed with
+	 * @return the requested delay (ms), or {@code -1} if the response did not ask for a delay
+	 */
+	private static long getRetryAfter(Throwable error) {
+		Throwable cause = error;
+		while (cause != null && !(cause instanceof HttpStatusCodeException)) {
+			cause = cause.getCause();
+		}
+		HttpHeaders headers = cause != null ? ((HttpStatusCodeException) cause).getResponseHeaders() : null;
+		String retryAfter = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+		if (retryAfter == null) {
+			return -1;
+		}
+		try {
+			return Duration.ofSeconds(Math.max(Long.parseLong(retryAfter.trim()), 0)).toMillis();
+		} catch (NumberFormatException e) {
+			//	Not delay-seconds, fall back to the HTTP-date form
+		}
+		try {
+			ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+			return Math.max(retryAt.toInstant().toEpochMilli() - System.currentTimeMillis(), 0);
+		} catch (DateTimeParseException e) {
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+
+/**
+ * Thread-safe entries keyed by a value of the devices, such as their ID, scoped to the {@link DeviceSnapshot} being served.
+ * <p>
+ * {@link #retain(DeviceSnapshot)} drops the entries whose key no device of the snapshot has anymore. It only scans
+ * the snapshot the first time it is given, so it can be called on every poll with the snapshot being served.
+ * </p>
+ *
+ * @param <V> the type of the entries
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+class SnapshotScopedEntries<V> {
+	private final Map<String, V> entries = new ConcurrentHashMap<>();
+	private final Function<Device, String> keyMapper;
+	private volatile DeviceSnapshot retainedSnapshot;
+
+	/**
+	 * Creates empty entries keyed by the given value of the devices.
+	 *
+	 * @param keyMapper maps a device to the key of its entry, or to {@code null} if the device has none
+	 */
+	SnapshotScopedEntries(Function<Device, String> keyMapper) {
+		this.keyMapper = keyMapper;
+	}
+
+	/**
+	 * Retrieves the entry of the given key.
+	 *
+	 * @param key the key of the entry
+	 * @return the entry, or {@code null} if there is none
+	 */
+	V get(String key) {
+		return this.entries.get(key);
+	}
+
+	/**
+	 * Stores the entry of the given key, replacing the previous one.
+	 *
+	 * @param key the key of the entry
+	 * @param entry the entry to store
+	 */
+	void put(String key, V entry) {
+		this.entries.put(key, entry);
+	}
+
+	/**
+	 * Removes the entries whose key no device of the given snapshot has.
+	 * <p>Nothing is done if the entries were already retained for the same snapshot.</p>
+	 *
+	 * @param snapshot the snapshot being served
+	 */
+	void retain(DeviceSnapshot snapshot) {
+		if (snapshot == this.retainedSnapshot) {
+			return;
+		}
+		Set<String> keys = new HashSet<>();
+		for (Device device : snapshot.getDevices()) {
+			String key = this.keyMapper.apply(device);
+			if (key != null) {
+				keys.add(key);
+			}
+		}
+		this.entries.keySet().retainAll(keys);
+		this.retainedSnapshot = snapshot;
+	}
+
+	/** Removes every entry and forgets the retained snapshot. */
+	void clear() {
+		this.entries.clear();
+		this.retainedSnapshot = null;
+	}
+}
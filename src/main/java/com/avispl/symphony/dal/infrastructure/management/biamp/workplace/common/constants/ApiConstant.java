@@ -18,7 +18,4 @@ public class ApiConstant {
 	public static final String OAUTH_HOSTNAME = "iam.workplace.biamp.app";
 	public static final String OAUTH_ENDPOINT = "oauth/v2/token";
 	public static final String GRAPHQL_ENDPOINT = "graphql";
-
-	//	Fields
-	public static final String DATA_FIELD = "data";
 }
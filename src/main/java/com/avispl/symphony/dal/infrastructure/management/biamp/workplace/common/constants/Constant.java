@@ -20,10 +20,13 @@ public class Constant {
 	//	Formats
 	public static final String GROUP_FORMAT = "%s_%02d";
 	public static final String PROPERTY_FORMAT = "%s#%s";
+	public static final String DEVICE_PAGE_SECTION_FORMAT = "allDevices[%s@%d]";
+	public static final String NEXT_FIRMWARE_SECTION_FORMAT = "nextFirmware[%s]";
 
 	//	Special characters
 	public static final String COMMA = ",";
 	public static final String SPACE = " ";
+	public static final String EMPTY = "";
 
 	//	Groups
 	public static final String ORGANIZATION_GROUPS = "Organization";
@@ -37,6 +40,7 @@ public class Constant {
 	public static final String GRAPHQL_FOLDER = "graphql/";
 	public static final String GRAPHQL_EXTENSION = ".graphql";
 	public static final String REBOOT = "Reboot";
+	public static final String DATA_AGE = "DataAge(s)";
 	public static final AdvancedControllableProperty DUMMY_CONTROLLER = new AdvancedControllableProperty(null, null, new Button(), null);
 
 	//	Info messages
@@ -53,17 +57,36 @@ public class Constant {
 	public static final String STATISTICS_EMPTY_WARNING = "The statistics are empty, returning empty map.";
 	public static final String AGGREGATED_STATISTICS_EMPTY_WARNING = "The aggregated statistics are empty, returning empty map.";
 	public static final String HISTORICAL_PROPERTIES_EMPTY_WARNING = "The historical properties are empty, returning empty map.";
+	public static final String DATA_EXPIRED_WARNING = "The device data is older than %d second(s), skipping aggregated devices until it is refreshed.";
+	public static final String FETCH_ORGANIZATION_DEVICES_FAILED_WARNING = "Failed to fetch the devices of organizations [%s], keeping their %d previous device(s).";
+	public static final String DEVICES_WITHOUT_ORGANIZATION_WARNING = "%d device(s) returned for organizations [%s] have no matching orgId, skipping them.";
+	public static final String NEXT_FIRMWARE_LOOKUP_ERRORS_WARNING = "Next firmware lookup failed for %d of %d device(s) in this cycle.";
+	public static final String NEXT_FIRMWARE_LOOKUP_CAUSE_WARNING = "Next firmware lookup failed for device id(s): [%s], error reported: [%s]";
 
 	//	Fail messages
 	public static final String REQUEST_APIS_FAILED = "Unable to process requested API sections: [%s], error reported: [%s]";
 	public static final String READ_PROPERTIES_FILE_FAILED = "Failed to load version properties file.";
 	public static final String LOGIN_FAILED = "Failed to login, please check the credentials";
+	public static final String OBTAIN_TOKENS_FAILED = "Failed to obtain valid authentication tokens, please check the credentials";
 	public static final String FETCH_DATA_FAILED = "Exception while fetching data. Endpoint: %s, ResponseClass: %s";
+	public static final String RETRY_REQUEST_WARNING = "Transient error while fetching data, retrying in %d ms. Endpoint: %s, ResponseClass: %s, Retry: %d";
 	public static final String FIND_GRAPHQL_FOLDER_FAILED = "Can not find the GraphQL folder: ";
 	public static final String READ_GRAPHQL_QUERY_FAILED = "Can not read query from graphql file: ";
+	public static final String INVALID_GRAPHQL_QUERY = "Invalid or missing query in graphql file: ";
+	public static final String QUERY_WITH_VARIABLES_BODY_FAILED = "Can not pre-serialize a query that takes variables: ";
+	public static final String QUERY_WITHOUT_VARIABLES_BATCH_FAILED = "Can not combine a query that takes no variables: ";
 	public static final String MAP_TO_UPTIME_FAILED = "Failed to mapToUptime with uptime: ";
 	public static final String MAP_TO_UPTIME_MIN_FAILED = "Failed to mapToUptimeMin with uptime: ";
 	public static final String FETCH_AGGREGATED_DATA_FAILED = "Failed to fetch aggregated data for device id: %s";
+	public static final String FETCH_PROFILE_FAILED = "Failed to fetch the user profile, keeping the previous data.";
+	public static final String FETCH_DEVICES_FAILED = "Failed to fetch the devices of every organization, keeping the previous data.";
+	public static final String FETCH_DEVICE_PAGE_FAILED = "Failed to fetch the device page %s.";
+	public static final String REFRESH_DATA_FAILED = "Failed to refresh the Biamp Workplace data in the background.";
+	public static final String REFRESH_TOKENS_FAILED = "Failed to refresh the authentication tokens in the background.";
+	public static final String REFRESH_TOKENS_FAILED_WARNING = "Failed to refresh the authentication tokens, retrying in %d seconds.";
+	public static final String COLLECT_AGGREGATED_DATA_FAILED = "Failed to collect aggregated data in this cycle.";
+	public static final String NEXT_FIRMWARE_ALIAS_MISSING = "The next firmware response has no result for alias %s.";
+	public static final String FETCH_NEXT_FIRMWARE_FAILED = "Failed to fetch next firmware for the batch of devices.";
 	public static final String DETERMINE_DEVICE_FAILED = "Unable to determine the device to control with ID: ";
 	public static final String REBOOT_DEVICE_FAILED = "Request to reboot the device failed.";
 }
@@ -6,12 +6,13 @@ package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common
 import java.text.Normalizer;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -19,13 +20,14 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.bases.BaseProperty;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.LocationPathIndex;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.PropertyKeyTable;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.Constant;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Attributes;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Channel;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Firmware;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Place;
-import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Place.Hierarchy;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Status;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Type;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Organization;
@@ -47,6 +49,20 @@ import com.avispl.symphony.dal.util.StringUtils;
  */
 public class MonitoringUtil {
 	private static final Log LOGGER = LogFactory.getLog(MonitoringUtil.class);
+	private static final Pattern DIACRITICAL_MARKS = Pattern.compile("\\p{M}");
+	/** Shared, never modified, placeholders read in place of missing device fields. */
+	private static final Firmware EMPTY_FIRMWARE = new Firmware();
+	private static final Status EMPTY_STATUS = new Status();
+	private static final Channel EMPTY_CHANNEL = new Channel();
+	private static final Place EMPTY_PLACE = new Place();
+	private static final Type EMPTY_TYPE = new Type();
+	private static final Attributes EMPTY_ATTRIBUTES = new Attributes();
+	/** Maximum total number of entries memoized by each name cache. */
+	private static final int NAME_CACHE_LIMIT = 1024;
+	/** Memoized results of {@link #removeAccents(String)} for non-ASCII inputs. */
+	private static final Map<String, String> ACCENT_FREE_NAMES = new ConcurrentHashMap<>();
+	/** Memoized results of {@link #mapToDeviceName(Device)}, by raw type name and raw product model. */
+	private static final Map<List<String>, String> DEVICE_NAMES = new ConcurrentHashMap<>();
 
 	private MonitoringUtil() {
 		// Prevent instantiation
@@ -55,7 +71,7 @@ public class MonitoringUtil {
 	/**
 	 * Generates a map of property names and their corresponding values.
 	 * <p>
-	 * Each property name can be optionally prefixed with a group name using a predefined format.
+	 * Each property name can be optionally prefixed with a group name; the keys are looked up in {@link PropertyKeyTable}.
 	 * The values are derived using the provided mapping function, with {@link Constant#NOT_AVAILABLE} as a fallback for null results.
 	 * </p>
 	 *
@@ -67,13 +83,47 @@ public class MonitoringUtil {
 	 * @return a map where keys are (optionally grouped) property names and values are mapped strings or {@link Constant#NOT_AVAILABLE}
 	 */
 	public static <T extends Enum<T> & BaseProperty> Map<String, String> generateProperties(T[] properties, String groupName, Function<T, String> mapper) {
-		if (properties == null || mapper == null) {
+		if (properties == null || properties.length == 0 || mapper == null) {
 			return Collections.emptyMap();
 		}
-		return Arrays.stream(properties).collect(Collectors.toMap(
-				property -> Objects.isNull(groupName) ? property.getName() : String.format(Constant.PROPERTY_FORMAT, groupName, property.getName()),
-				property -> Optional.ofNullable(mapper.apply(property)).orElse(Constant.NOT_AVAILABLE)
-		));
+		Map<String, String> generatedProperties = new HashMap<>(getMapCapacity(properties.length));
+		putProperties(generatedProperties, properties, groupName, mapper);
+		return generatedProperties;
+	}
+
+	/**
+	 * Puts the given properties and their corresponding values into an existing map.
+	 * <p>
+	 * Works like {@link #generateProperties(Enum[], String, Function)} without allocating an intermediate map,
+	 * so several property groups can be collected into a single presized map.
+	 * </p>
+	 *
+	 * @param <T> the enum type that extends {@link BaseProperty}
+	 * @param target the map to put the properties into
+	 * @param properties the array of enum constants to be processed; if null, nothing is put
+	 * @param groupName optional group name used to prefix each property's name; can be null
+	 * @param mapper a function that maps each property to its corresponding string value;
+	 * if the result is null, {@link Constant#NOT_AVAILABLE} is used as the value
+	 */
+	public static <T extends Enum<T> & BaseProperty> void putProperties(Map<String, String> target, T[] properties, String groupName, Function<T, String> mapper) {
+		if (properties == null || properties.length == 0 || mapper == null) {
+			return;
+		}
+		List<String> keys = PropertyKeyTable.getKeys(properties[0].getDeclaringClass(), groupName);
+		for (T property : properties) {
+			String value = mapper.apply(property);
+			target.put(keys.get(property.ordinal()), value != null ? value : Constant.NOT_AVAILABLE);
+		}
+	}
+
+	/**
+	 * Computes the initial capacity of a {@link HashMap} holding the given number of entries without resizing.
+	 *
+	 * @param size the expected number of entries
+	 * @return the initial capacity to use for the map
+	 */
+	public static int getMapCapacity(int size) {
+		return (int) (size / 0.75f) + 1;
 	}
 
 	/**
@@ -183,20 +233,15 @@ public class MonitoringUtil {
 
 		switch (property) {
 			case ASSIGNED_FIRMWARE:
-				Firmware assignedFirmware = Optional.ofNullable(device.getAssignedFirmware()).orElse(new Firmware());
-				return mapToValue(assignedFirmware.getVersion());
+				return mapToValue(orEmpty(device.getAssignedFirmware(), EMPTY_FIRMWARE).getVersion());
 			case FIRMWARE:
-				Status status = Optional.ofNullable(device.getStatus()).orElse(new Status());
-				return mapToValue(status.getFirmware());
+				return mapToValue(orEmpty(device.getStatus(), EMPTY_STATUS).getFirmware());
 			case FIRMWARE_CHANNEL:
-				Channel channel = Optional.ofNullable(device.getChannel()).orElse(new Channel());
-				return mapToValue(channel.getName());
+				return mapToValue(orEmpty(device.getChannel(), EMPTY_CHANNEL).getName());
 			case LATEST_FIRMWARE:
-				Firmware lastFirmware = Optional.ofNullable(device.getLatestFirmware()).orElse(new Firmware());
-				return mapToValue(lastFirmware.getVersion());
+				return mapToValue(orEmpty(device.getLatestFirmware(), EMPTY_FIRMWARE).getVersion());
 			case NEXT_FIRMWARE:
-				Firmware nextFirmware = Optional.ofNullable(device.getNextFirmware()).orElse(new Firmware());
-				return mapToValue(nextFirmware.getVersion());
+				return mapToValue(orEmpty(device.getNextFirmware(), EMPTY_FIRMWARE).getVersion());
 			default:
 				LOGGER.warn(String.format(Constant.UNSUPPORTED_PROPERTY_WARNING, "mapToFirmwareProperty()", property));
 				return null;
@@ -208,17 +253,17 @@ public class MonitoringUtil {
 	 *
 	 * @param device the device to extract values from; may be {@code null}
 	 * @param property the property to map
+	 * @param locationPathIndex the index the location path of the device is looked up in
 	 * @return a string value of the requested property, or {@code null} if the device is {@code null}
 	 * or the property is not supported
 	 */
-	public static String mapToOverviewProperty(Device device, OverviewProperty property) {
+	public static String mapToOverviewProperty(Device device, OverviewProperty property, LocationPathIndex locationPathIndex) {
 		if (device == null) {
 			LOGGER.warn(String.format(Constant.OBJECT_NULL_WARNING, "Device"));
 			return null;
 		}
 
-		Place location = Optional.ofNullable(device.getPlace()).orElseGet(Place::new);
-		List<Hierarchy> locationHierarchies = Optional.ofNullable(location.getHierarchy()).orElseGet(Collections::emptyList);
+		Place location = orEmpty(device.getPlace(), EMPTY_PLACE);
 
 		switch (property) {
 			case MODEL:
@@ -226,17 +271,13 @@ public class MonitoringUtil {
 			case REBOOT:
 				return Constant.NOT_AVAILABLE;
 			case STATE:
-				DeviceState state = Optional.ofNullable(device.getState()).orElse(DeviceState.NOT_AVAILABLE);
-				return state.getValue();
+				return orEmpty(device.getState(), DeviceState.NOT_AVAILABLE).getValue();
 			case TYPE:
 				return removeAccents(mapToValue(getDeviceType(device).getName()));
 			case LOCATION_ID:
 				return mapToValue(location.getId());
 			case LOCATION_NAME:
-				Collections.reverse(locationHierarchies);
-				String locationName = locationHierarchies.stream()
-						.map(hierarchy -> hierarchy.getName().trim()).collect(Collectors.joining(" / "));
-				return mapToValue(locationName);
+				return locationPathIndex.getPath(location, MonitoringUtil::mapToValue);
 			case ORGANIZATION_ID:
 				return mapToValue(device.getOrgId());
 			case ORGANIZATION_NAME:
@@ -284,6 +325,8 @@ public class MonitoringUtil {
 	 * <p>
 	 * The device type and model are converted to title case.
 	 * If both values are null or empty, {@link Constant#NOT_AVAILABLE} is returned.
+	 * Names are memoized by type and model, as a fleet only holds a few dozen distinct pairs, up to
+	 * {@link #NAME_CACHE_LIMIT} pairs in total.
 	 * </p>
 	 *
 	 * @param device the {@link Device} object to generate the name for; must not be {@code null}
@@ -291,46 +334,108 @@ public class MonitoringUtil {
 	 * or {@link Constant#NOT_AVAILABLE} if both type and model are missing
 	 */
 	public static String mapToDeviceName(Device device) {
-		String typeName = removeAccents(toTitleCase(getDeviceType(device).getName()));
-		String modelName = removeAccents(toTitleCase(getDeviceAttributes(device).getProductModel()));
-		String deviceName = Stream.of(typeName, modelName).filter(s -> s != null && !s.isEmpty()).collect(Collectors.joining(Constant.SPACE));
+		String type = getDeviceType(device).getName();
+		String model = getDeviceAttributes(device).getProductModel();
+		List<String> key = Arrays.asList(type, model);
+		String deviceName = DEVICE_NAMES.get(key);
+		if (deviceName != null) {
+			return deviceName;
+		}
+		deviceName = buildDeviceName(type, model);
+		if (DEVICE_NAMES.size() < NAME_CACHE_LIMIT) {
+			DEVICE_NAMES.put(key, deviceName);
+		}
 
-		return deviceName.isEmpty() ? Constant.NOT_AVAILABLE : deviceName;
+		return deviceName;
 	}
 
 	/**
 	 * Removes all diacritical marks (accents) from the input string.
+	 * <p>
+	 * ASCII-only inputs can not hold any diacritical mark and are returned as-is without normalization.
+	 * Other results are memoized, up to {@link #NAME_CACHE_LIMIT} distinct inputs.
+	 * </p>
 	 *
 	 * @param input the string to normalize
 	 * @return the normalized string without accents, or null if input is null
 	 */
 	public static String removeAccents(String input) {
-		if (input == null) {
-			return null;
+		if (input == null || isAscii(input)) {
+			return input;
+		}
+		String accentFreeName = ACCENT_FREE_NAMES.get(input);
+		if (accentFreeName != null) {
+			return accentFreeName;
+		}
+		accentFreeName = DIACRITICAL_MARKS.matcher(Normalizer.normalize(input, Normalizer.Form.NFD)).replaceAll("");
+		if (ACCENT_FREE_NAMES.size() < NAME_CACHE_LIMIT) {
+			ACCENT_FREE_NAMES.put(input, accentFreeName);
 		}
-		String normalized = Normalizer.normalize(input, Normalizer.Form.NFD);
 
-		return normalized.replaceAll("\\p{M}", "");
+		return accentFreeName;
+	}
+
+	/**
+	 * Builds the name of a device from its raw type name and product model.
+	 *
+	 * @param type the raw type name; may be {@code null}
+	 * @param model the raw product model; may be {@code null}
+	 * @return the device name in the format "Type Model", or {@link Constant#NOT_AVAILABLE} if both are missing
+	 */
+	private static String buildDeviceName(String type, String model) {
+		String typeName = removeAccents(toTitleCase(type));
+		String modelName = removeAccents(toTitleCase(model));
+		String deviceName = Stream.of(typeName, modelName).filter(s -> s != null && !s.isEmpty()).collect(Collectors.joining(Constant.SPACE));
+
+		return deviceName.isEmpty() ? Constant.NOT_AVAILABLE : deviceName;
+	}
+
+	/**
+	 * Checks whether the given string only holds ASCII characters.
+	 *
+	 * @param value the string to check; must not be {@code null}
+	 * @return {@code true} if every character is in the ASCII range, {@code false} otherwise
+	 */
+	private static boolean isAscii(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (value.charAt(i) >= 0x80) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
 	 * Retrieves the {@link Type} of the given {@link Device}.
 	 *
 	 * @param device the device from which to retrieve the type; may be {@code null}
-	 * @return the device type, or a new {@link Type} if none is defined
+	 * @return the device type, or a shared empty {@link Type} if none is defined
 	 */
 	private static Type getDeviceType(Device device) {
-		return Optional.ofNullable(device.getType()).orElse(new Type());
+		return orEmpty(device.getType(), EMPTY_TYPE);
 	}
 
 	/**
 	 * Retrieves the {@link Attributes} of the given {@link Device}.
 	 *
 	 * @param device the device from which to retrieve the attributes; may be {@code null}
-	 * @return the device attributes, or a new {@link Attributes} if none are defined
+	 * @return the device attributes, or a shared empty {@link Attributes} if none are defined
 	 */
 	private static Attributes getDeviceAttributes(Device device) {
-		return Optional.ofNullable(device.getAttributes()).orElse(new Attributes());
+		return orEmpty(device.getAttributes(), EMPTY_ATTRIBUTES);
+	}
+
+	/**
+	 * Returns the given value, or the given placeholder if the value is {@code null}.
+	 * <p>Unlike {@code Optional.ofNullable(value).orElse(empty)}, no object is allocated.</p>
+	 *
+	 * @param <T> the type of the value
+	 * @param value the value to return if not {@code null}
+	 * @param empty the shared placeholder to return otherwise; must never be modified
+	 * @return {@code value} if not {@code null}, {@code empty} otherwise
+	 */
+	private static <T> T orEmpty(T value, T empty) {
+		return value != null ? value : empty;
 	}
 
 	/**
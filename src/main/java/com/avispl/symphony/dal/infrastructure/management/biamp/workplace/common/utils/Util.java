@@ -8,6 +8,11 @@ import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
@@ -82,4 +87,71 @@ public class Util {
 	public static boolean isDeviceOnline(DeviceState state) {
 		return DeviceState.ONLINE.equals(state);
 	}
+
+	/**
+	 * Computes the offsets of the {@code allDevices} pages following the first page.
+	 * <p>
+	 * The first page, at offset {@code 0}, tells the total count; each following page starts {@code pageSize}
+	 * devices after the previous one, up to the last page holding the device at {@code totalCount - 1}.
+	 * </p>
+	 *
+	 * @param totalCount the total number of devices reported by the first page
+	 * @param pageSize the number of devices per page, greater than {@code 0}
+	 * @return the offsets of the remaining pages in ascending order, empty if the first page holds every device
+	 */
+	public static int[] getRemainingPageOffsets(int totalCount, int pageSize) {
+		if (totalCount <= pageSize) {
+			return new int[0];
+		}
+		int[] offsets = new int[(int) ((totalCount - 1L) / pageSize)];
+		for (int i = 0; i < offsets.length; i++) {
+			offsets[i] = (i + 1) * pageSize;
+		}
+		return offsets;
+	}
+
+	/**
+	 * Splits the devices returned by an {@code allDevices} query filtered by several organizations.
+	 * <p>
+	 * Each device is placed in the list of the organization its {@link Device#getOrgId()} names. Devices whose
+	 * {@code orgId} is missing or not one of {@code organizationIds} can not be attributed to an organization
+	 * and are left out, the same way the aggregated devices are filtered by organization.
+	 * </p>
+	 *
+	 * @param devices the devices returned for the organizations
+	 * @param organizationIds the organization IDs the query was filtered by
+	 * @return the devices of each organization, in the order of {@code organizationIds}, with an empty list for
+	 * an organization without device
+	 */
+	public static Map<String, List<Device>> splitByOrganization(List<Device> devices, String... organizationIds) {
+		Map<String, List<Device>> devicesByOrganization = new LinkedHashMap<>(MonitoringUtil.getMapCapacity(organizationIds.length));
+		for (String organizationId : organizationIds) {
+			devicesByOrganization.put(organizationId, new ArrayList<>());
+		}
+		for (Device device : devices) {
+			List<Device> organizationDevices = device.getOrgId() != null ? devicesByOrganization.get(device.getOrgId()) : null;
+			if (organizationDevices != null) {
+				organizationDevices.add(device);
+			}
+		}
+		return devicesByOrganization;
+	}
+
+	/**
+	 * Resizes a fixed-size thread pool in place, so tasks already queued or running are kept.
+	 * <p>Extra threads are only removed once they are idle.</p>
+	 *
+	 * @param executorService the thread pool to resize, whose core and maximum pool sizes are equal
+	 * @param poolSize the new number of threads, greater than {@code 0}
+	 */
+	public static void setFixedPoolSize(ThreadPoolExecutor executorService, int poolSize) {
+		//	The maximum pool size can never be below the core pool size, so the order depends on the direction
+		if (poolSize > executorService.getMaximumPoolSize()) {
+			executorService.setMaximumPoolSize(poolSize);
+			executorService.setCorePoolSize(poolSize);
+		} else {
+			executorService.setCorePoolSize(poolSize);
+			executorService.setMaximumPoolSize(poolSize);
+		}
+	}
 }
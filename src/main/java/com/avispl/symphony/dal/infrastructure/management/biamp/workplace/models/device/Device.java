@@ -3,6 +3,12 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Organization;
@@ -23,7 +29,8 @@ public class Device {
 	private Type type;
 	private String serial;
 	private Firmware assignedFirmware;
-	private Firmware nextFirmware;
+	/** Set by the data loader while the device is being served, so it is read without a lock. */
+	private volatile Firmware nextFirmware;
 	private Firmware latestFirmware;
 	private String firmwarePublicKey;
 	private Channel channel;
@@ -33,6 +40,12 @@ public class Device {
 	private Status status;
 	private Attributes attributes;
 	private DeviceState state;
+	/** Values of every field except {@link #nextFirmware}, collected on first use. */
+	@JsonIgnore
+	private volatile List<Object> sourceValues;
+	/** Displayed values combined for the current {@link #nextFirmware}, reset when it is set. */
+	@JsonIgnore
+	private volatile DisplayedValues displayedValues;
 
 	public Device() {
 		//	Default constructor required for JSON deserialization.
@@ -162,6 +175,7 @@ public class Device {
 	 */
 	public void setNextFirmware(Firmware nextFirmware) {
 		this.nextFirmware = nextFirmware;
+		this.displayedValues = null;
 	}
 
 	/**
@@ -325,4 +339,85 @@ public class Device {
 	public void setState(DeviceState state) {
 		this.state = state;
 	}
+
+	/**
+	 * Retrieves the values of the fields this device is displayed from.
+	 * <p>
+	 * Two devices with equal displayed values produce the same aggregated device properties. The values of
+	 * the fields set by the {@code allDevices} query are collected once, as these fields are never changed after
+	 * deserialization, and are combined with {@link #nextFirmware} which is updated later by the data loader.
+	 * The combined list is kept until {@link #nextFirmware} changes, so unchanged devices allocate nothing per call.
+	 * </p>
+	 *
+	 * @return the displayed values of this device, to be compared with {@link List#equals(Object)}
+	 */
+	@JsonIgnore
+	public List<Object> getDisplayedValues() {
+		Firmware firmware = this.nextFirmware;
+		DisplayedValues combined = this.displayedValues;
+		//	Compared by reference, so values combined for a firmware replaced meanwhile are never served
+		if (combined == null || combined.nextFirmware != firmware) {
+			List<Object> values = this.sourceValues;
+			if (values == null) {
+				values = this.collectSourceValues();
+				this.sourceValues = values;
+			}
+			combined = new DisplayedValues(firmware, Collections.unmodifiableList(Arrays.asList(values, getFirmwareValues(firmware))));
+			this.displayedValues = combined;
+		}
+		return combined.values;
+	}
+
+	/**
+	 * Collects the values of every field except {@link #nextFirmware}.
+	 *
+	 * @return the unmodifiable list of the source values
+	 */
+	private List<Object> collectSourceValues() {
+		List<Object> values = new ArrayList<>(Arrays.asList(this.id, this.orgId, this.orgName, this.serial, this.firmwarePublicKey, this.state));
+		values.add(this.type != null ? Arrays.asList(this.type.getId(), this.type.getName()) : null);
+		values.add(getFirmwareValues(this.assignedFirmware));
+		values.add(getFirmwareValues(this.latestFirmware));
+		values.add(this.channel != null ? Arrays.asList(this.channel.getId(), this.channel.getName()) : null);
+		if (this.place != null) {
+			List<Object> hierarchy = new ArrayList<>();
+			if (this.place.getHierarchy() != null) {
+				for (Place.Hierarchy level : this.place.getHierarchy()) {
+					hierarchy.add(level != null ? Arrays.asList(level.getId(), level.getName()) : null);
+				}
+			}
+			values.add(Arrays.asList(this.place.getId(), hierarchy));
+		} else {
+			values.add(null);
+		}
+		values.add(this.desk != null ? Arrays.asList(this.desk.getId(), this.desk.getName()) : null);
+		values.add(this.room != null ? Arrays.asList(this.room.getId(), this.room.getName()) : null);
+		values.add(this.status != null ? Arrays.asList(this.status.getTimestamp(), this.status.getTemperature(), this.status.getFirmware(),
+				this.status.getUptime(), this.status.getPresence(), this.status.getCpuUtilization()) : null);
+		values.add(this.attributes != null ? this.attributes.getProductModel() : null);
+		return Collections.unmodifiableList(values);
+	}
+
+	/**
+	 * Collects the values of the given firmware.
+	 *
+	 * @param firmware the firmware to collect the values of; may be {@code null}
+	 * @return the firmware ID and version, or {@code null} if {@code firmware} is {@code null}
+	 */
+	private static List<String> getFirmwareValues(Firmware firmware) {
+		return firmware != null ? Arrays.asList(firmware.getId(), firmware.getVersion()) : null;
+	}
+
+	/**
+	 * Displayed values of a device along with the {@link #nextFirmware} they were combined with.
+	 */
+	private static class DisplayedValues {
+		private final Firmware nextFirmware;
+		private final List<Object> values;
+
+		private DisplayedValues(Firmware nextFirmware, List<Object> values) {
+			this.nextFirmware = nextFirmware;
+			this.values = values;
+		}
+	}
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Represents a single page of the {@code allDevices} query, including the total number
+ * of devices matching the filter on the server side.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DevicePage {
+	private Integer totalCount;
+	private List<Device> devices;
+
+	public DevicePage() {
+		//	Default constructor required for JSON deserialization.
+	}
+
+	/**
+	 * Retrieves {@link #totalCount}
+	 *
+	 * @return value of {@link #totalCount}
+	 */
+	public Integer getTotalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * Sets {@link #totalCount} value
+	 *
+	 * @param totalCount new value of {@link #totalCount}
+	 */
+	public void setTotalCount(Integer totalCount) {
+		this.totalCount = totalCount;
+	}
+
+	/**
+	 * Retrieves {@link #devices}
+	 *
+	 * @return value of {@link #devices}
+	 */
+	public List<Device> getDevices() {
+		return devices;
+	}
+
+	/**
+	 * Sets {@link #devices} value
+	 *
+	 * @param devices new value of {@link #devices}
+	 */
+	public void setDevices(List<Device> devices) {
+		this.devices = devices;
+	}
+}
@@ -3,10 +3,18 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.InvitationStatus;
+
 /**
  * Represents a user profile.
  * A profile contains basic user information along with memberships and invitations related to organizations.
@@ -22,6 +30,9 @@ public class Profile {
 	private Boolean superAdmin;
 	private List<Membership> memberships;
 	private List<Invitation> invitations;
+	/** Status of the first invitation of each organization, built along with {@link #invitations}. */
+	@JsonIgnore
+	private Map<String, InvitationStatus> invitationStatuses = Collections.emptyMap();
 
 	public Profile() {
 		//	Default constructor required for JSON deserialization.
@@ -133,5 +144,77 @@ public class Profile {
 	 */
 	public void setInvitations(List<Invitation> invitations) {
 		this.invitations = invitations;
+		this.invitationStatuses = indexInvitationStatuses(invitations);
+	}
+
+	/**
+	 * Retrieves the status of the invitation to the given organization.
+	 *
+	 * @param orgId the ID of the organization
+	 * @return the status of the first invitation to the organization, or {@link InvitationStatus#NOT_AVAILABLE} if there is none
+	 */
+	public InvitationStatus getInvitationStatus(String orgId) {
+		InvitationStatus invitationStatus = orgId != null ? this.invitationStatuses.get(orgId) : null;
+		return invitationStatus != null ? invitationStatus : InvitationStatus.NOT_AVAILABLE;
+	}
+
+	/**
+	 * Retrieves the values of the content of this profile, as returned by the server.
+	 * <p>
+	 * Two profiles with equal content values assemble the same organizations. Values derived afterwards,
+	 * such as the membership role set on each {@link Organization}, are not part of the content values.
+	 * </p>
+	 *
+	 * @return the content values of this profile, to be compared with {@link List#equals(Object)}
+	 */
+	@JsonIgnore
+	public List<Object> getContentValues() {
+		List<Object> values = new ArrayList<>(Arrays.asList(this.id, this.name, this.email, this.superAdmin));
+		if (this.memberships != null) {
+			List<Object> membershipValues = new ArrayList<>(this.memberships.size());
+			for (Membership membership : this.memberships) {
+				if (membership == null) {
+					membershipValues.add(null);
+					continue;
+				}
+				Organization organization = membership.getOrganization();
+				membershipValues.add(Arrays.asList(membership.getId(), membership.getUserId(), membership.getRole(), membership.getStatus(),
+						membership.getOrgId(), organization != null ? Arrays.asList(organization.getId(), organization.getDomain(), organization.getName()) : null));
+			}
+			values.add(membershipValues);
+		} else {
+			values.add(null);
+		}
+		if (this.invitations != null) {
+			List<Object> invitationValues = new ArrayList<>(this.invitations.size());
+			for (Invitation invitation : this.invitations) {
+				invitationValues.add(invitation != null
+						? Arrays.asList(invitation.getId(), invitation.getOrgId(), invitation.getEmail(), invitation.getStatus())
+						: null);
+			}
+			values.add(invitationValues);
+		} else {
+			values.add(null);
+		}
+		return values;
+	}
+
+	/**
+	 * Indexes the status of the first invitation of each organization.
+	 *
+	 * @param invitations the invitations to index; may be {@code null}
+	 * @return an unmodifiable map of organization IDs and invitation statuses
+	 */
+	private static Map<String, InvitationStatus> indexInvitationStatuses(List<Invitation> invitations) {
+		if (invitations == null || invitations.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<String, InvitationStatus> statuses = new HashMap<>((int) (invitations.size() / 0.75f) + 1);
+		for (Invitation invitation : invitations) {
+			if (invitation != null && invitation.getOrgId() != null && invitation.getStatus() != null) {
+				statuses.putIfAbsent(invitation.getOrgId(), invitation.getStatus());
+			}
+		}
+		return Collections.unmodifiableMap(statuses);
 	}
 }
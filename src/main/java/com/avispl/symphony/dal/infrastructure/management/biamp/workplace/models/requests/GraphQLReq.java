@@ -1,12 +1,16 @@
 package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.requests;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.avispl.symphony.api.common.error.InvalidArgumentException;
-import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.utils.Util;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.GraphQLQueryRegistry;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.QueryType;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.ResponseType;
 
 /**
@@ -17,6 +21,10 @@ import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.R
  * @since 1.0.0
  */
 public class GraphQLReq {
+	private static final String NEXT_FIRMWARE_ALIAS_PREFIX = "device";
+	/** Orders the devices by ID, so consecutive pages never overlap nor skip a device. */
+	private static final List<Map<String, String>> DEVICE_ORDER = Collections.singletonList(createDeviceOrder("ID", "ASC"));
+
 	private String query;
 	private Map<String, Object> variables;
 
@@ -65,77 +73,93 @@ public class GraphQLReq {
 	}
 
 	/**
-	 * Creates a {@link GraphQLReq} instance for fetching profile information.
-	 * The method loads the GraphQL query from the <code>profile.graphql</code> file
-	 * and initializes a request without variables.
-	 *
-	 * @return a {@link GraphQLReq} containing the profile query
-	 */
-	public static GraphQLReq getProfile() {
-		String query = Util.readQueryFromGraphQLFile(ResponseType.PROFILE.getFieldName());
-
-		return new GraphQLReq(query, null);
-	}
-
-	/**
-	 * Creates a {@link GraphQLReq} instance for fetching device information by organization IDs.
+	 * Creates a {@link GraphQLReq} instance for fetching a page of device information by organization IDs.
 	 * <p>
-	 * This method loads the GraphQL query from the <code>allDevices.graphql</code> file,
+	 * This method takes the GraphQL query of the <code>devices.graphql</code> file from {@link GraphQLQueryRegistry},
 	 * and initializes the request with query variables including:
 	 * <ul>
-	 *   <li>{@code limit}: fixed to 200</li>
-	 *   <li>{@code offset}: fixed to 0</li>
+	 *   <li>{@code limit}: the maximum number of devices in the page</li>
+	 *   <li>{@code offset}: the number of devices to skip before the page starts</li>
+	 *   <li>{@code order}: a stable order by device ID, so the offsets of several pages refer to the same sequence</li>
 	 *   <li>{@code filter}: a filter containing the provided organization IDs</li>
 	 * </ul>
 	 * </p>
 	 *
+	 * @param limit the maximum number of devices to return
+	 * @param offset the index of the first device to return
 	 * @param organizationIds the list of organization IDs to filter devices by;
 	 * must not be {@code null} or empty
 	 * @return a {@link GraphQLReq} containing the devices query and variables
 	 * @throws InvalidArgumentException if {@code organizationIds} is {@code null} or empty
 	 */
-	public static GraphQLReq getDevices(String... organizationIds) {
-		String query = Util.readQueryFromGraphQLFile(ResponseType.DEVICES.getFieldName());
+	public static GraphQLReq getDevices(int limit, int offset, String... organizationIds) {
+		String query = GraphQLQueryRegistry.getQuery(QueryType.DEVICES);
 		Map<String, Object> variables = new HashMap<>();
-		variables.put("limit", 200);
-		variables.put("offset", 0);
+		variables.put("limit", limit);
+		variables.put("offset", offset);
+		variables.put("order", DEVICE_ORDER);
 		variables.put("filter", Collections.singletonMap("organizations", Arrays.asList(organizationIds)));
 
 		return new GraphQLReq(query, variables);
 	}
 
 	/**
-	 * Creates a {@link GraphQLReq} instance for fetching the next firmware information
-	 * of a device by its ID, current firmware version, and public key.
+	 * Creates a {@link GraphQLReq} instance for fetching the next firmware information of several devices
+	 * in a single document.
 	 * <p>
-	 * This method loads the GraphQL query from the <code>nextFirmware.graphql</code> file
-	 * and initializes the request with query variables including:
-	 * <ul>
-	 *   <li>{@code deviceId}: the ID of the target device</li>
-	 *   <li>{@code fwrev}: the current firmware version of the device</li>
-	 *   <li>{@code pubkey}: the public key associated with the device</li>
-	 * </ul>
+	 * The <code>nextFirmware.graphql</code> document is combined by {@link GraphQLQueryRegistry#getBatchQuery(QueryType, List)}:
+	 * each device gets its own aliased selection, named by {@link #getNextFirmwareAlias(int)} with the index of
+	 * the device in {@code devices}, and its own {@code deviceId}, {@code fwrev} and {@code pubkey} variables
+	 * suffixed with the same index.
+	 * The response is decoded with {@link ResponseType#NEXT_FIRMWARES}.
 	 * </p>
 	 *
-	 * @param deviceId the ID of the device
-	 * @param firmwareVersion the current firmware version of the device
-	 * @param publicKey the public key of the device
-	 * @return a {@link GraphQLReq} containing the next firmware query and variables
+	 * @param devices the devices to look up; must not be {@code null} or empty
+	 * @return a {@link GraphQLReq} containing the aliased next firmware query and variables
 	 */
-	public static GraphQLReq getNextFirmware(String deviceId, String firmwareVersion, String publicKey) {
-		String query = Util.readQueryFromGraphQLFile(ResponseType.NEXT_FIRMWARE.getFieldName());
+	public static GraphQLReq getNextFirmwares(List<Device> devices) {
+		List<String> aliases = new ArrayList<>(devices.size());
 		Map<String, Object> variables = new HashMap<>();
-		variables.put("deviceId", deviceId);
-		variables.put("fwrev", firmwareVersion);
-		variables.put("pubkey", publicKey);
+		for (int i = 0; i < devices.size(); i++) {
+			Device device = devices.get(i);
+			aliases.add(getNextFirmwareAlias(i));
+			variables.put("deviceId" + i, device.getId());
+			variables.put("fwrev" + i, device.getStatus() != null ? device.getStatus().getFirmware() : null);
+			variables.put("pubkey" + i, device.getFirmwarePublicKey());
+		}
+		String query = GraphQLQueryRegistry.getBatchQuery(QueryType.NEXT_FIRMWARE, aliases);
 
 		return new GraphQLReq(query, variables);
 	}
 
+	/**
+	 * Returns the alias used for the device at the given index in {@link #getNextFirmwares(List)}.
+	 *
+	 * @param index the index of the device in the batch
+	 * @return the alias of the device selection
+	 */
+	public static String getNextFirmwareAlias(int index) {
+		return NEXT_FIRMWARE_ALIAS_PREFIX + index;
+	}
+
+	/**
+	 * Creates a {@code DeviceOrder} input of the {@code allDevices} query.
+	 *
+	 * @param field the device field to order by
+	 * @param direction the direction of the order
+	 * @return an unmodifiable {@code DeviceOrder} input
+	 */
+	private static Map<String, String> createDeviceOrder(String field, String direction) {
+		Map<String, String> order = new HashMap<>();
+		order.put("field", field);
+		order.put("direction", direction);
+		return Collections.unmodifiableMap(order);
+	}
+
 	/**
 	 * Creates a {@link GraphQLReq} instance for rebooting a device within an organization.
 	 * <p>
-	 * This method loads the GraphQL query from the <code>rebootDevice.graphql</code> file
+	 * This method takes the GraphQL query of the <code>rebootDevice.graphql</code> file from {@link GraphQLQueryRegistry}
 	 * and initializes the request with query variables including:
 	 * <ul>
 	 *   <li>{@code orgId}: the ID of the organization containing the device</li>
@@ -148,7 +172,7 @@ public class GraphQLReq {
 	 * @return a {@link GraphQLReq} containing the reboot device query and variables
 	 */
 	public static GraphQLReq rebootDevice(String orgId, String deviceId) {
-		String query = Util.readQueryFromGraphQLFile("rebootDevice");
+		String query = GraphQLQueryRegistry.getQuery(QueryType.REBOOT_DEVICE);
 		Map<String, Object> variables = new HashMap<>();
 		variables.put("orgId", orgId);
 		variables.put("deviceId", deviceId);
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.Constant;
+
+/**
+ * Defines the GraphQL documents shipped under {@link Constant#GRAPHQL_FOLDER} and whether they take variables.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+public enum QueryType {
+	PROFILE("profile", false),
+	DEVICES("devices", true),
+	NEXT_FIRMWARE("nextFirmware", true),
+	REBOOT_DEVICE("rebootDevice", true);
+
+	private final String fileName;
+	private final boolean withVariables;
+
+	QueryType(String fileName, boolean withVariables) {
+		this.fileName = fileName;
+		this.withVariables = withVariables;
+	}
+
+	/**
+	 * Retrieves {@link #fileName}
+	 *
+	 * @return value of {@link #fileName}
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+
+	/**
+	 * Retrieves {@link #withVariables}
+	 *
+	 * @return value of {@link #withVariables}
+	 */
+	public boolean isWithVariables() {
+		return withVariables;
+	}
+}
@@ -3,38 +3,58 @@
  */
 package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types;
 
-import java.util.List;
+import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
-import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.ApiConstant;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.Authentication;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.DeviceCommand;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
-import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Firmware;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.DevicePage;
 import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Profile;
 
 /**
  * Defines different response types and their associated model classes.
+ * <p>
+ * Each response type owns an immutable {@link ObjectReader}, bound once to its target type and to the
+ * {@link JsonPointer} of its data in the response, so a response body is decoded straight into the model
+ * without building an intermediate JSON tree.
+ * </p>
+ * <p>
+ * A response without any data at the pointer, such as the {@code "data": null} of a failed GraphQL operation,
+ * can not be decoded by a single result reader, so the request is tracked as failed rather than answered with
+ * an empty result. An explicit {@code null} at the pointer decodes to {@code null}.
+ * </p>
  *
  * @author Kevin / Symphony Dev Team
  * @since 1.0.0
  */
 public enum ResponseType {
-	AUTHENTICATION(Authentication.class, null),
-	PROFILE(Profile.class, "profile"),
-	DEVICES(Device.class, "devices"),
-	NEXT_FIRMWARE(Firmware.class, "nextFirmware"),
-	REBOOT_DEVICE(DeviceCommand.class, "deviceCommand");
+	AUTHENTICATION(Authentication.class, "", false),
+	PROFILE(Profile.class, "/data/profile", false),
+	DEVICES(DevicePage.class, "/data/allDevices", false),
+	NEXT_FIRMWARES(Device.class, "/data", true),
+	REBOOT_DEVICE(DeviceCommand.class, "/data/deviceCommand", false);
 
 	private final Class<?> clazz;
-	private final String fieldName;
+	private final JsonPointer pointer;
+	private final boolean batch;
+	private final ObjectReader reader;
 
-	ResponseType(Class<?> clazz, String fieldName) {
+	ResponseType(Class<?> clazz, String pointer, boolean batch) {
 		this.clazz = clazz;
-		this.fieldName = fieldName;
+		this.pointer = JsonPointer.compile(pointer);
+		this.batch = batch;
+
+		ObjectMapper mapper = ReaderHolder.OBJECT_MAPPER;
+		JavaType javaType = batch
+				? mapper.getTypeFactory().constructMapType(Map.class, String.class, clazz)
+				: mapper.getTypeFactory().constructType(clazz);
+		ObjectReader typedReader = mapper.readerFor(javaType);
+		this.reader = this.pointer.matches() ? typedReader : typedReader.at(this.pointer);
 	}
 
 	/**
@@ -47,21 +67,31 @@ public enum ResponseType {
 	}
 
 	/**
-	 * Retrieves {@link #fieldName} from an API response
+	 * Retrieves {@link #pointer} to the data of this response type in an API response
 	 *
-	 * @return value of {@link #fieldName} from an API response
+	 * @return value of {@link #pointer}
 	 */
-	public String getFieldName() {
-		return fieldName;
+	public JsonPointer getPointer() {
+		return pointer;
 	}
 
 	/**
-	 * Determines whether the response type represents a collection of items.
+	 * Determines whether the response type holds several aliased results in a single document.
+	 * <p>Batch response types are decoded into a {@link Map} of alias to {@link #clazz}.</p>
 	 *
-	 * @return {@code true} if this response type is a collection, {@code false} otherwise
+	 * @return {@code true} if this response type is a batch of aliased results, {@code false} otherwise
 	 */
-	public boolean isCollection() {
-		return this.equals(DEVICES);
+	public boolean isBatch() {
+		return batch;
+	}
+
+	/**
+	 * Retrieves {@link #reader} bound to the target type and {@link #pointer} of this response type
+	 *
+	 * @return value of {@link #reader}
+	 */
+	public ObjectReader getReader() {
+		return reader;
 	}
 
 	/**
@@ -74,40 +104,19 @@ public enum ResponseType {
 	}
 
 	/**
-	 * Returns the Jackson {@link JavaType} representing a collection of the target class.
-	 * <p>
-	 * This method is intended for enum constants that represent list responses.
-	 * If the current instance does not represent a collection, an {@link IllegalStateException} is thrown.
-	 * </p>
+	 * Checks whether this response type represents an idempotent query, which is safe to send again after a failure.
 	 *
-	 * @param mapper the {@link ObjectMapper} used to construct the type reference
-	 * @return a {@link JavaType} representing a {@link List} of the target class
-	 * @throws IllegalStateException if this instance does not represent a collection response
+	 * @return {@code true} if this response type is an idempotent query, {@code false} otherwise
 	 */
-	public JavaType getTypeRef(ObjectMapper mapper) {
-		if (!this.isCollection()) {
-			throw new IllegalStateException("This instance is not marked as a collection type");
-		}
-		return mapper.getTypeFactory().constructCollectionType(List.class, this.clazz);
+	public boolean isIdempotentQuery() {
+		return this.equals(PROFILE) || this.equals(DEVICES) || this.equals(NEXT_FIRMWARES);
 	}
 
 	/**
-	 * Extracts paths from the given JSON root node according to the response type.
-	 *
-	 * @param root the JSON root node
-	 * @return the JSON node extracted based on the response type
+	 * Holds the {@link ObjectMapper} the readers are built from, since enum constructors
+	 * can not reference static fields of the enum itself.
 	 */
-	public JsonNode getPaths(JsonNode root) {
-		switch (this) {
-			case PROFILE:
-			case REBOOT_DEVICE:
-				return root.path(ApiConstant.DATA_FIELD).path(this.fieldName);
-			case DEVICES:
-				return root.path(ApiConstant.DATA_FIELD).path("allDevices").path(this.fieldName);
-			case NEXT_FIRMWARE:
-				return root.path(ApiConstant.DATA_FIELD).path("device").path(this.fieldName);
-			default:
-				return root;
-		}
+	private static final class ReaderHolder {
+		private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 	}
 }
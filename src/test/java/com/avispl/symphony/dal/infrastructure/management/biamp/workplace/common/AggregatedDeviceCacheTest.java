@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.Constant;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Firmware;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Status;
+
+/**
+ * Unit tests for the {@link AggregatedDeviceCache} class.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class AggregatedDeviceCacheTest {
+
+	@Test
+	void testGetReturnsCachedInstanceForUnchangedDevice() {
+		AggregatedDeviceCache cache = new AggregatedDeviceCache();
+		AggregatedDevice built = createAggregatedDevice("device-1");
+		cache.put(createDevice("device-1", 40), built);
+
+		AggregatedDevice first = cache.get(createDevice("device-1", 40));
+		Assertions.assertSame(built, first);
+		first.setTimestamp(1L);
+		first.getProperties().put(Constant.DATA_AGE, "5");
+
+		AggregatedDevice second = cache.get(createDevice("device-1", 40));
+		Assertions.assertSame(built, second);
+		Assertions.assertEquals(1L, second.getTimestamp());
+		Assertions.assertEquals("5", second.getProperties().get(Constant.DATA_AGE));
+	}
+
+	@Test
+	void testGetFollowsNextFirmwareOfSameDevice() {
+		AggregatedDeviceCache cache = new AggregatedDeviceCache();
+		Device device = createDevice("device-1", 40);
+		cache.put(device, createAggregatedDevice("device-1"));
+		Assertions.assertNotNull(cache.get(device));
+
+		Firmware nextFirmware = new Firmware();
+		nextFirmware.setId("fw-2");
+		nextFirmware.setVersion("2.0.0");
+		device.setNextFirmware(nextFirmware);
+		Assertions.assertNull(cache.get(device));
+
+		cache.put(device, createAggregatedDevice("device-1"));
+		Assertions.assertSame(device.getDisplayedValues(), device.getDisplayedValues());
+		Assertions.assertNotNull(cache.get(device));
+		device.setNextFirmware(null);
+		Assertions.assertNull(cache.get(device));
+	}
+
+	@Test
+	void testGetReturnsNullForChangedDevice() {
+		AggregatedDeviceCache cache = new AggregatedDeviceCache();
+		cache.put(createDevice("device-1", 40), createAggregatedDevice("device-1"));
+
+		Assertions.assertNull(cache.get(createDevice("device-1", 41)));
+		Assertions.assertNull(cache.get(createDevice("device-2", 40)));
+
+		Device nextFirmwareChanged = createDevice("device-1", 40);
+		Firmware nextFirmware = new Firmware();
+		nextFirmware.setId("fw-2");
+		nextFirmware.setVersion("2.0.0");
+		nextFirmwareChanged.setNextFirmware(nextFirmware);
+		Assertions.assertNull(cache.get(nextFirmwareChanged));
+	}
+
+	@Test
+	void testRetain() {
+		AggregatedDeviceCache cache = new AggregatedDeviceCache();
+		cache.put(createDevice("device-1", 40), createAggregatedDevice("device-1"));
+		cache.put(createDevice("device-2", 40), createAggregatedDevice("device-2"));
+
+		cache.retain(new DeviceSnapshot(Collections.singletonList(createDevice("device-2", 40))));
+
+		Assertions.assertNull(cache.get(createDevice("device-1", 40)));
+		Assertions.assertNotNull(cache.get(createDevice("device-2", 40)));
+	}
+
+	@Test
+	void testRetainSameSnapshotOnce() {
+		AggregatedDeviceCache cache = new AggregatedDeviceCache();
+		DeviceSnapshot snapshot = new DeviceSnapshot(Arrays.asList(createDevice("device-1", 40)));
+		cache.retain(snapshot);
+		cache.put(createDevice("device-2", 40), createAggregatedDevice("device-2"));
+
+		cache.retain(snapshot);
+		Assertions.assertNotNull(cache.get(createDevice("device-2", 40)));
+	}
+
+	@Test
+	void testClear() {
+		AggregatedDeviceCache cache = new AggregatedDeviceCache();
+		DeviceSnapshot snapshot = new DeviceSnapshot(Arrays.asList(createDevice("device-1", 40)));
+		cache.retain(snapshot);
+		cache.put(createDevice("device-1", 40), createAggregatedDevice("device-1"));
+
+		cache.clear();
+		Assertions.assertNull(cache.get(createDevice("device-1", 40)));
+	}
+
+	/**
+	 * Creates a device with the given ID and temperature.
+	 */
+	private static Device createDevice(String id, int temperature) {
+		Device device = new Device();
+		device.setId(id);
+		Status status = new Status();
+		status.setTemperature(temperature);
+		device.setStatus(status);
+		return device;
+	}
+
+	/**
+	 * Creates the aggregated device of the device with the given ID.
+	 */
+	private static AggregatedDevice createAggregatedDevice(String id) {
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceId(id);
+		aggregatedDevice.setDeviceName("Device " + id.substring(id.indexOf('-') + 1));
+		Map<String, String> properties = new HashMap<>();
+		properties.put("State", "Online");
+		aggregatedDevice.setProperties(properties);
+		aggregatedDevice.setControllableProperties(new ArrayList<>(Collections.singletonList(Constant.DUMMY_CONTROLLER)));
+		aggregatedDevice.setDynamicStatistics(new HashMap<>());
+		return aggregatedDevice;
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+
+/**
+ * Unit tests for the {@link DeviceSnapshot} class.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class DeviceSnapshotTest {
+
+	@Test
+	void testDevicesAreCopiedAndUnmodifiable() {
+		List<Device> devices = new ArrayList<>(Arrays.asList(createDevice("device-1"), createDevice("device-2")));
+		DeviceSnapshot snapshot = new DeviceSnapshot(devices);
+		devices.add(createDevice("device-3"));
+
+		Assertions.assertEquals(2, snapshot.getDevices().size());
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.getDevices().add(createDevice("device-4")));
+	}
+
+	@Test
+	void testGetDeviceById() {
+		Device first = createDevice("device-1");
+		Device duplicate = createDevice("device-1");
+		DeviceSnapshot snapshot = new DeviceSnapshot(Arrays.asList(first, createDevice("device-2"), duplicate));
+
+		Assertions.assertSame(first, snapshot.getDevice("device-1"));
+		Assertions.assertEquals("device-2", snapshot.getDevice("device-2").getId());
+		Assertions.assertNull(snapshot.getDevice("device-3"));
+		Assertions.assertNull(snapshot.getDevice(null));
+	}
+
+	@Test
+	void testDuplicateDevicesAreKeptOnce() {
+		Device first = createDevice("device-1");
+		Device second = createDevice("device-2");
+		DeviceSnapshot snapshot = new DeviceSnapshot(Arrays.asList(first, second, createDevice("device-1"), createDevice("device-2")));
+
+		Assertions.assertEquals(Arrays.asList(first, second), snapshot.getDevices());
+		Assertions.assertSame(second, snapshot.getDevice("device-2"));
+	}
+
+	@Test
+	void testAge() {
+		long before = System.currentTimeMillis();
+		DeviceSnapshot snapshot = new DeviceSnapshot(Arrays.asList(createDevice("device-1")));
+
+		Assertions.assertTrue(snapshot.getCreatedAt() >= before);
+		Assertions.assertTrue(snapshot.getAge() >= 0 && snapshot.getAge() <= System.currentTimeMillis() - before);
+	}
+
+	@Test
+	void testEmptySnapshotIsExpired() {
+		DeviceSnapshot snapshot = DeviceSnapshot.empty();
+
+		Assertions.assertTrue(snapshot.getDevices().isEmpty());
+		Assertions.assertEquals(0L, snapshot.getCreatedAt());
+		Assertions.assertTrue(snapshot.getAge() >= System.currentTimeMillis() - 1000);
+	}
+
+	/**
+	 * Creates a device with the given ID.
+	 */
+	private static Device createDevice(String id) {
+		Device device = new Device();
+		device.setId(id);
+		return device;
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.QueryType;
+
+/**
+ * Unit tests for the {@link GraphQLQueryRegistry} class.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class GraphQLQueryRegistryTest {
+
+	@Test
+	void testBatchQueryDefinitions() {
+		String query = GraphQLQueryRegistry.getBatchQuery(QueryType.NEXT_FIRMWARE, Arrays.asList("device0", "device1"));
+
+		Assertions.assertTrue(query.startsWith("query getANextFirmware($deviceId0: ID!, $fwrev0: String, $pubkey0: String, "
+				+ "$deviceId1: ID!, $fwrev1: String, $pubkey1: String) {"), query);
+		Assertions.assertTrue(GraphQLQueryRegistry.isValidQuery(query), query);
+	}
+
+	@Test
+	void testBatchQueryAliasesAndVariables() {
+		String query = GraphQLQueryRegistry.getBatchQuery(QueryType.NEXT_FIRMWARE, Arrays.asList("device0", "device1"));
+
+		Assertions.assertTrue(query.contains("device0: device(id: $deviceId0) {"), query);
+		Assertions.assertTrue(query.contains("nextFirmware(hwrev: null, fwrev: $fwrev0, serial: null, pubkey: $pubkey0)"), query);
+		Assertions.assertTrue(query.contains("device1: device(id: $deviceId1) {"), query);
+		Assertions.assertTrue(query.contains("nextFirmware(hwrev: null, fwrev: $fwrev1, serial: null, pubkey: $pubkey1)"), query);
+		Assertions.assertTrue(query.indexOf("device0:") < query.indexOf("device1:"), query);
+		//	Every variable is suffixed exactly once, defined once and referenced once
+		Matcher variables = Pattern.compile("\\$(\\w+)").matcher(query);
+		while (variables.find()) {
+			Assertions.assertTrue(variables.group(1).matches("(deviceId|fwrev|pubkey)[01]"), variables.group());
+		}
+		Assertions.assertEquals(12, query.split("\\$").length - 1);
+	}
+
+	@Test
+	void testBatchQueryOfSingleAlias() {
+		String query = GraphQLQueryRegistry.getBatchQuery(QueryType.NEXT_FIRMWARE, Collections.singletonList("device0"));
+
+		Assertions.assertTrue(query.startsWith("query getANextFirmware($deviceId0: ID!, $fwrev0: String, $pubkey0: String) {"), query);
+		Assertions.assertFalse(query.contains("device1"), query);
+	}
+
+	@Test
+	void testBatchQueryRejectsDocumentWithoutVariables() {
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> GraphQLQueryRegistry.getBatchQuery(QueryType.PROFILE, Collections.singletonList("profile0")));
+	}
+
+	@Test
+	void testParse() {
+		GraphQLQueryRegistry.BatchTemplate template = GraphQLQueryRegistry.BatchTemplate.parse(
+				"query name($a: ID!, $b: String) {\n  field(a: $a, b: $b) {\n    id\n  }\n}");
+
+		Assertions.assertEquals("query name", template.operation);
+		Assertions.assertEquals("$a: ID!, $b: String", template.variableDefinitions);
+		Assertions.assertEquals("field(a: $a, b: $b) {\n    id\n  }", template.selectionSet);
+	}
+
+	@Test
+	void testParseRejectsDocumentWithoutVariables() {
+		Assertions.assertThrows(IllegalStateException.class, () -> GraphQLQueryRegistry.BatchTemplate.parse("query name {\n  field {\n    id\n  }\n}"));
+		Assertions.assertThrows(IllegalStateException.class, () -> GraphQLQueryRegistry.BatchTemplate.parse("query name {\n  field(a: 1) {\n    id\n  }\n}"));
+	}
+
+	@Test
+	void testIsValidQuery() {
+		Assertions.assertTrue(GraphQLQueryRegistry.isValidQuery("query name { field { id } }"));
+		Assertions.assertTrue(GraphQLQueryRegistry.isValidQuery("  mutation name($a: ID!) { field(a: $a) { id } }\n"));
+		Assertions.assertFalse(GraphQLQueryRegistry.isValidQuery(null));
+		Assertions.assertFalse(GraphQLQueryRegistry.isValidQuery(""));
+		Assertions.assertFalse(GraphQLQueryRegistry.isValidQuery("subscription name { field { id } }"));
+		Assertions.assertFalse(GraphQLQueryRegistry.isValidQuery("query name { field { id }"));
+		Assertions.assertFalse(GraphQLQueryRegistry.isValidQuery("query name } field { id {"));
+	}
+
+	@Test
+	void testEveryDocumentIsLoaded() {
+		for (QueryType queryType : QueryType.values()) {
+			Assertions.assertTrue(GraphQLQueryRegistry.isValidQuery(GraphQLQueryRegistry.getQuery(queryType)), queryType.getFileName());
+		}
+		Assertions.assertTrue(GraphQLQueryRegistry.getRequestBody(QueryType.PROFILE).startsWith("{\"query\":\"query"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> GraphQLQueryRegistry.getRequestBody(QueryType.DEVICES));
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Place;
+
+/**
+ * Unit tests for the {@link LocationPathIndex} class.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class LocationPathIndexTest {
+	private final AtomicInteger formats = new AtomicInteger();
+	private final UnaryOperator<String> formatter = path -> {
+		this.formats.incrementAndGet();
+		return path.isEmpty() ? "None" : path;
+	};
+
+	@Test
+	void testPathFromRootDown() {
+		LocationPathIndex index = new LocationPathIndex();
+		Place place = createPlace("room-1", " Room 1 ", "Floor 2", "Building");
+
+		Assertions.assertEquals("Building / Floor 2 / Room 1", index.getPath(place, this.formatter));
+		Assertions.assertEquals("room-1", place.getHierarchy().get(0).getId());
+	}
+
+	@Test
+	void testMissingNames() {
+		LocationPathIndex index = new LocationPathIndex();
+		Place place = createPlace("room-1", "Room 1", null, "Building");
+		Place noHierarchy = new Place();
+		noHierarchy.setId("place-2");
+
+		Assertions.assertEquals("Building / Room 1", index.getPath(place, this.formatter));
+		Assertions.assertEquals("None", index.getPath(noHierarchy, this.formatter));
+		Assertions.assertEquals("None", index.getPath(new Place(), this.formatter));
+	}
+
+	@Test
+	void testPathIsSharedUntilHierarchyChanges() {
+		LocationPathIndex index = new LocationPathIndex();
+		String path = index.getPath(createPlace("room-1", "Room 1", "Building"), this.formatter);
+
+		Assertions.assertSame(path, index.getPath(createPlace("room-1", "Room 1", "Building"), this.formatter));
+		Assertions.assertEquals(1, this.formats.get());
+
+		Assertions.assertEquals("Building / Meeting Room", index.getPath(createPlace("room-1", "Meeting Room", "Building"), this.formatter));
+		Assertions.assertEquals(2, this.formats.get());
+	}
+
+	@Test
+	void testRetain() {
+		LocationPathIndex index = new LocationPathIndex();
+		index.getPath(createPlace("room-1", "Room 1", "Building"), this.formatter);
+		index.getPath(createPlace("room-2", "Room 2", "Building"), this.formatter);
+
+		index.retain(new DeviceSnapshot(Arrays.asList(createDevice(createPlace("room-2", "Room 2", "Building")), createDevice(null))));
+		index.getPath(createPlace("room-2", "Room 2", "Building"), this.formatter);
+		Assertions.assertEquals(2, this.formats.get());
+		index.getPath(createPlace("room-1", "Room 1", "Building"), this.formatter);
+		Assertions.assertEquals(3, this.formats.get());
+	}
+
+	@Test
+	void testClear() {
+		LocationPathIndex index = new LocationPathIndex();
+		index.retain(new DeviceSnapshot(Collections.emptyList()));
+		index.getPath(createPlace("room-1", "Room 1", "Building"), this.formatter);
+
+		index.clear();
+		index.getPath(createPlace("room-1", "Room 1", "Building"), this.formatter);
+		Assertions.assertEquals(2, this.formats.get());
+	}
+
+	/**
+	 * Creates a place with the given ID and hierarchy names, listed from the place up to its root.
+	 */
+	private static Place createPlace(String id, String... names) {
+		List<Place.Hierarchy> hierarchy = new ArrayList<>();
+		for (int i = 0; i < names.length; i++) {
+			Place.Hierarchy level = new Place.Hierarchy();
+			level.setId(i == 0 ? id : id + "-parent-" + i);
+			level.setName(names[i]);
+			hierarchy.add(level);
+		}
+		Place place = new Place();
+		place.setId(id);
+		place.setHierarchy(hierarchy);
+		return place;
+	}
+
+	/**
+	 * Creates a device located in the given place.
+	 */
+	private static Device createDevice(Place place) {
+		Device device = new Device();
+		device.setId(place != null ? "device-" + place.getId() : "device-unplaced");
+		device.setPlace(place);
+		return device;
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Channel;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Firmware;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Status;
+
+/**
+ * Unit tests for the {@link NextFirmwareCache} class.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class NextFirmwareCacheTest {
+	private static final long TIME_TO_LIVE = Duration.ofMinutes(30).toMillis();
+
+	@Test
+	void testRestoreWithSameInputs() {
+		NextFirmwareCache cache = new NextFirmwareCache(TIME_TO_LIVE);
+		Firmware nextFirmware = createFirmware("fw-2", "2.0.0");
+		cache.put(createDevice("device-1", "1.0.0", "channel-1"), nextFirmware);
+
+		Device refreshed = createDevice("device-1", "1.0.0", "channel-1");
+		Assertions.assertTrue(cache.contains(refreshed));
+		Assertions.assertTrue(cache.restore(refreshed));
+		Assertions.assertSame(nextFirmware, refreshed.getNextFirmware());
+	}
+
+	@Test
+	void testRestoreWithChangedInputs() {
+		NextFirmwareCache cache = new NextFirmwareCache(TIME_TO_LIVE);
+		cache.put(createDevice("device-1", "1.0.0", "channel-1"), createFirmware("fw-2", "2.0.0"));
+
+		Firmware currentFirmware = createFirmware("fw-3", "3.0.0");
+		for (Device changed : Arrays.asList(createDevice("device-1", "2.0.0", "channel-1"), createDevice("device-1", "1.0.0", "channel-2"),
+				createDevice("device-2", "1.0.0", "channel-1"))) {
+			changed.setNextFirmware(currentFirmware);
+			Assertions.assertFalse(cache.contains(changed));
+			Assertions.assertFalse(cache.restore(changed));
+			Assertions.assertSame(currentFirmware, changed.getNextFirmware());
+		}
+	}
+
+	@Test
+	void testNullNextFirmwareIsCached() {
+		NextFirmwareCache cache = new NextFirmwareCache(TIME_TO_LIVE);
+		cache.put(createDevice("device-1", "1.0.0", "channel-1"), null);
+
+		Device refreshed = createDevice("device-1", "1.0.0", "channel-1");
+		refreshed.setNextFirmware(createFirmware("fw-2", "2.0.0"));
+		Assertions.assertTrue(cache.restore(refreshed));
+		Assertions.assertNull(refreshed.getNextFirmware());
+	}
+
+	@Test
+	void testExpiredEntry() {
+		NextFirmwareCache cache = new NextFirmwareCache(TIME_TO_LIVE);
+		Device device = createDevice("device-1", "1.0.0", "channel-1");
+		cache.put(device, createFirmware("fw-2", "2.0.0"));
+
+		cache.setTimeToLive(-1);
+		Assertions.assertFalse(cache.contains(device));
+		cache.setTimeToLive(TIME_TO_LIVE);
+		Assertions.assertTrue(cache.contains(device));
+	}
+
+	@Test
+	void testInvalidate() {
+		NextFirmwareCache cache = new NextFirmwareCache(TIME_TO_LIVE);
+		cache.put(createDevice("device-1", "1.0.0", "channel-1"), createFirmware("fw-2", "2.0.0"));
+		cache.put(createDevice("device-2", "1.0.0", "channel-1"), createFirmware("fw-2", "2.0.0"));
+		cache.put(createDevice("device-3", "1.0.0", "channel-1"), createFirmware("fw-2", "2.0.0"));
+
+		cache.invalidate(Arrays.asList(createDevice("device-1", "1.0.0", "channel-1"), createDevice("device-2", "2.0.0", "channel-1")));
+
+		Assertions.assertTrue(cache.contains(createDevice("device-1", "1.0.0", "channel-1")));
+		//	Entries of changed devices stay removed when the device goes back to the cached inputs
+		Assertions.assertFalse(cache.contains(createDevice("device-2", "1.0.0", "channel-1")));
+		Assertions.assertFalse(cache.contains(createDevice("device-3", "1.0.0", "channel-1")));
+
+		cache.invalidate(Collections.emptyList());
+		Assertions.assertFalse(cache.contains(createDevice("device-1", "1.0.0", "channel-1")));
+	}
+
+	@Test
+	void testClear() {
+		NextFirmwareCache cache = new NextFirmwareCache(TIME_TO_LIVE);
+		Device device = createDevice("device-1", "1.0.0", "channel-1");
+		cache.put(device, createFirmware("fw-2", "2.0.0"));
+
+		cache.clear();
+		Assertions.assertFalse(cache.contains(device));
+	}
+
+	/**
+	 * Creates a device with the given ID, running firmware revision and channel.
+	 */
+	private static Device createDevice(String id, String firmware, String channelId) {
+		Device device = new Device();
+		device.setId(id);
+		device.setFirmwarePublicKey("public-key");
+		device.setAssignedFirmware(createFirmware("fw-1", "1.0.0"));
+		Status status = new Status();
+		status.setFirmware(firmware);
+		device.setStatus(status);
+		Channel channel = new Channel();
+		channel.setId(channelId);
+		device.setChannel(channel);
+		return device;
+	}
+
+	/**
+	 * Creates a firmware with the given ID and version.
+	 */
+	private static Firmware createFirmware(String id, String version) {
+		Firmware firmware = new Firmware();
+		firmware.setId(id);
+		firmware.setVersion(version);
+		return firmware;
+	}
+}
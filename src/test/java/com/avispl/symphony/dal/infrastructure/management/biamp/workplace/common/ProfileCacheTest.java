@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Membership;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Organization;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Profile;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.MembershipRole;
+
+/**
+ * Unit tests for the {@link ProfileCache} class.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class ProfileCacheTest {
+	private static final long TIME_TO_LIVE = Duration.ofMinutes(60).toMillis();
+
+	private final AtomicInteger builds = new AtomicInteger();
+	/** Assembles the organizations like the communicator does, setting the membership role on each organization. */
+	private final Function<Profile, List<Organization>> organizationsBuilder = profile -> {
+		this.builds.incrementAndGet();
+		List<Organization> organizations = new ArrayList<>();
+		for (Membership membership : profile.getMemberships()) {
+			membership.getOrganization().setMembershipRole(membership.getRole());
+			organizations.add(membership.getOrganization());
+		}
+		return organizations;
+	};
+
+	@Test
+	void testFirstUpdateBuildsOrganizations() {
+		ProfileCache cache = new ProfileCache(TIME_TO_LIVE);
+		Assertions.assertFalse(cache.isValid());
+		Assertions.assertTrue(cache.getOrganizations().isEmpty());
+
+		Profile profile = createProfile("Organization One", MembershipRole.OWNER);
+		Assertions.assertTrue(cache.update(profile, this.organizationsBuilder));
+
+		Assertions.assertTrue(cache.isValid());
+		Assertions.assertSame(profile, cache.getProfile());
+		Assertions.assertEquals(1, cache.getOrganizations().size());
+		Assertions.assertEquals(1, this.builds.get());
+	}
+
+	@Test
+	void testSameContentKeepsOrganizations() {
+		ProfileCache cache = new ProfileCache(TIME_TO_LIVE);
+		Profile profile = createProfile("Organization One", MembershipRole.OWNER);
+		cache.update(profile, this.organizationsBuilder);
+		List<Organization> organizations = cache.getOrganizations();
+
+		Assertions.assertFalse(cache.update(createProfile("Organization One", MembershipRole.OWNER), this.organizationsBuilder));
+		Assertions.assertSame(profile, cache.getProfile());
+		Assertions.assertSame(organizations, cache.getOrganizations());
+		Assertions.assertEquals(1, this.builds.get());
+	}
+
+	@Test
+	void testChangedContentRebuildsOrganizations() {
+		ProfileCache cache = new ProfileCache(TIME_TO_LIVE);
+		cache.update(createProfile("Organization One", MembershipRole.OWNER), this.organizationsBuilder);
+
+		Profile renamed = createProfile("Organization Uno", MembershipRole.OWNER);
+		Assertions.assertTrue(cache.update(renamed, this.organizationsBuilder));
+		Assertions.assertSame(renamed, cache.getProfile());
+		Assertions.assertEquals("Organization Uno", cache.getOrganizations().get(0).getName());
+
+		Assertions.assertTrue(cache.update(createProfile("Organization Uno", MembershipRole.USER), this.organizationsBuilder));
+		Assertions.assertEquals(MembershipRole.USER, cache.getOrganizations().get(0).getMembershipRole());
+		Assertions.assertEquals(3, this.builds.get());
+	}
+
+	@Test
+	void testExpiryAndClear() {
+		ProfileCache cache = new ProfileCache(TIME_TO_LIVE);
+		cache.update(createProfile("Organization One", MembershipRole.OWNER), this.organizationsBuilder);
+
+		cache.setTimeToLive(-1);
+		Assertions.assertFalse(cache.isValid());
+		cache.setTimeToLive(TIME_TO_LIVE);
+		Assertions.assertTrue(cache.isValid());
+
+		cache.clear();
+		Assertions.assertFalse(cache.isValid());
+		Assertions.assertNull(cache.getProfile());
+		Assertions.assertTrue(cache.getOrganizations().isEmpty());
+		Assertions.assertTrue(cache.update(createProfile("Organization One", MembershipRole.OWNER), this.organizationsBuilder));
+	}
+
+	/**
+	 * Creates a profile with a single membership to an organization with the given name.
+	 */
+	private static Profile createProfile(String organizationName, MembershipRole role) {
+		Organization organization = new Organization();
+		organization.setId("org-1");
+		organization.setName(organizationName);
+		Membership membership = new Membership();
+		membership.setId("membership-1");
+		membership.setOrgId("org-1");
+		membership.setRole(role);
+		membership.setOrganization(organization);
+
+		Profile profile = new Profile();
+		profile.setId("user-1");
+		profile.setEmail("user@example.com");
+		profile.setMemberships(Collections.singletonList(membership));
+		return profile;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.Constant;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.aggregated.FirmwareProperty;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.aggregated.OverviewProperty;
+
+/**
+ * Unit tests for the {@link PropertyKeyTable} class.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class PropertyKeyTableTest {
+
+	@Test
+	void testUngroupedKeys() {
+		List<String> keys = PropertyKeyTable.getKeys(OverviewProperty.class, null);
+
+		Assertions.assertEquals(OverviewProperty.values().length, keys.size());
+		for (OverviewProperty property : OverviewProperty.values()) {
+			Assertions.assertEquals(property.getName(), keys.get(property.ordinal()));
+			Assertions.assertEquals(property.getName(), PropertyKeyTable.getKey(property, null));
+		}
+	}
+
+	@Test
+	void testGroupedKeys() {
+		List<String> keys = PropertyKeyTable.getKeys(FirmwareProperty.class, Constant.FIRMWARE_GROUP);
+
+		for (FirmwareProperty property : FirmwareProperty.values()) {
+			String expected = String.format(Constant.PROPERTY_FORMAT, Constant.FIRMWARE_GROUP, property.getName());
+			Assertions.assertEquals(expected, keys.get(property.ordinal()));
+			Assertions.assertEquals(expected, PropertyKeyTable.getKey(property, Constant.FIRMWARE_GROUP));
+		}
+		Assertions.assertNotEquals(keys, PropertyKeyTable.getKeys(FirmwareProperty.class, Constant.STATUS_GROUP));
+	}
+
+	@Test
+	void testKeysAreSharedAndUnmodifiable() {
+		List<String> keys = PropertyKeyTable.getKeys(FirmwareProperty.class, Constant.FIRMWARE_GROUP);
+
+		Assertions.assertSame(keys, PropertyKeyTable.getKeys(FirmwareProperty.class, Constant.FIRMWARE_GROUP));
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> keys.set(0, "changed"));
+	}
+
+	@Test
+	void testGroupNames() {
+		Assertions.assertEquals(String.format(Constant.GROUP_FORMAT, Constant.ORGANIZATION_GROUPS, 1), PropertyKeyTable.getGroupName(Constant.ORGANIZATION_GROUPS, 1));
+		Assertions.assertEquals(String.format(Constant.GROUP_FORMAT, Constant.ORGANIZATION_GROUPS, 12), PropertyKeyTable.getGroupName(Constant.ORGANIZATION_GROUPS, 12));
+		Assertions.assertSame(PropertyKeyTable.getGroupName(Constant.ORGANIZATION_GROUPS, 3), PropertyKeyTable.getGroupName(Constant.ORGANIZATION_GROUPS, 3));
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * Unit tests for the {@link RetryPolicy} class.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class RetryPolicyTest {
+	private static final long MAX_TOTAL_DELAY = Duration.ofMinutes(1).toMillis();
+
+	@Test
+	void testTransientErrorsAreRetried() {
+		RetryPolicy retryPolicy = new RetryPolicy(3, 20, MAX_TOTAL_DELAY);
+
+		Assertions.assertTrue(retryPolicy.getRetryDelay(new ResourceNotReachableException("unreachable"), 0, 0) >= 0);
+		for (int statusCode : new int[] { 408, 429, 500, 502, 503, 504 }) {
+			Assertions.assertTrue(retryPolicy.getRetryDelay(createCommandFailure(statusCode, null), 0, 0) >= 0, "status " + statusCode);
+		}
+	}
+
+	@Test
+	void testPermanentErrorsAreNotRetried() {
+		RetryPolicy retryPolicy = new RetryPolicy(3, 20, MAX_TOTAL_DELAY);
+
+		for (int statusCode : new int[] { 400, 401, 403, 404, 501 }) {
+			Assertions.assertEquals(-1, retryPolicy.getRetryDelay(createCommandFailure(statusCode, null), 0, 0), "status " + statusCode);
+		}
+		Assertions.assertEquals(-1, retryPolicy.getRetryDelay(new IllegalStateException("mapping failed"), 0, 0));
+	}
+
+	@Test
+	void testMaxRetriesPerRequest() {
+		RetryPolicy retryPolicy = new RetryPolicy(2, 20, MAX_TOTAL_DELAY);
+		ResourceNotReachableException error = new ResourceNotReachableException("unreachable");
+
+		Assertions.assertTrue(retryPolicy.getRetryDelay(error, 1, 0) >= 0);
+		Assertions.assertEquals(-1, retryPolicy.getRetryDelay(error, 2, 0));
+	}
+
+	@Test
+	void testJitterBounds() {
+		RetryPolicy retryPolicy = new RetryPolicy(Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE);
+		ResourceNotReachableException error = new ResourceNotReachableException("unreachable");
+
+		for (int i = 0; i < 1000; i++) {
+			long firstDelay = retryPolicy.getRetryDelay(error, 0, 0);
+			Assertions.assertTrue(firstDelay >= 500 && firstDelay <= 1500, "first delay " + firstDelay);
+
+			long grownDelay = retryPolicy.getRetryDelay(error, 1, 2000);
+			Assertions.assertTrue(grownDelay >= 500 && grownDelay <= 6000, "grown delay " + grownDelay);
+
+			long cappedDelay = retryPolicy.getRetryDelay(error, 2, 9000);
+			Assertions.assertTrue(cappedDelay >= 500 && cappedDelay <= 10000, "capped delay " + cappedDelay);
+		}
+	}
+
+	@Test
+	void testRetryAfterSeconds() {
+		RetryPolicy retryPolicy = new RetryPolicy(3, 20, MAX_TOTAL_DELAY);
+
+		Assertions.assertEquals(2000, retryPolicy.getRetryDelay(createCommandFailure(503, "2"), 0, 0));
+		Assertions.assertEquals(0, retryPolicy.getRetryDelay(createCommandFailure(429, "-5"), 0, 0));
+		Assertions.assertEquals(-1, retryPolicy.getRetryDelay(createCommandFailure(429, "11"), 0, 0));
+	}
+
+	@Test
+	void testRetryAfterDate() {
+		RetryPolicy retryPolicy = new RetryPolicy(3, 20, MAX_TOTAL_DELAY);
+		String retryAt = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(5));
+		String pastDate = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+		String lateDate = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(1));
+
+		long delay = retryPolicy.getRetryDelay(createCommandFailure(503, retryAt), 0, 0);
+		Assertions.assertTrue(delay > 3000 && delay <= 5000, "delay " + delay);
+		Assertions.assertEquals(0, retryPolicy.getRetryDelay(createCommandFailure(503, pastDate), 0, 0));
+		Assertions.assertEquals(-1, retryPolicy.getRetryDelay(createCommandFailure(503, lateDate), 0, 0));
+	}
+
+	@Test
+	void testInvalidRetryAfterFallsBackToJitter() {
+		RetryPolicy retryPolicy = new RetryPolicy(3, 20, MAX_TOTAL_DELAY);
+
+		long delay = retryPolicy.getRetryDelay(createCommandFailure(503, "soon"), 0, 0);
+		Assertions.assertTrue(delay >= 500 && delay <= 1500, "delay " + delay);
+	}
+
+	@Test
+	void testRetryBudgetExhaustion() {
+		RetryPolicy retryPolicy = new RetryPolicy(3, 2, MAX_TOTAL_DELAY);
+		ResourceNotReachableException error = new ResourceNotReachableException("unreachable");
+
+		Assertions.assertTrue(retryPolicy.getRetryDelay(error, 0, 0) >= 0);
+		Assertions.assertTrue(retryPolicy.getRetryDelay(error, 0, 0) >= 0);
+		Assertions.assertEquals(-1, retryPolicy.getRetryDelay(error, 0, 0));
+
+		retryPolicy.resetBudget();
+		Assertions.assertTrue(retryPolicy.getRetryDelay(error, 0, 0) >= 0);
+	}
+
+	@Test
+	void testDelayBudgetExhaustion() {
+		RetryPolicy retryPolicy = new RetryPolicy(3, 20, 5000);
+		CommandFailureException error = createCommandFailure(503, "2");
+
+		Assertions.assertEquals(2000, retryPolicy.getRetryDelay(error, 0, 0));
+		Assertions.assertEquals(2000, retryPolicy.getRetryDelay(error, 0, 0));
+		Assertions.assertEquals(-1, retryPolicy.getRetryDelay(error, 0, 0));
+		Assertions.assertEquals(0, retryPolicy.getRetryDelay(createCommandFailure(503, "0"), 0, 0));
+
+		retryPolicy.setMaxTotalDelay(1000);
+		retryPolicy.resetBudget();
+		Assertions.assertEquals(-1, retryPolicy.getRetryDelay(error, 0, 0));
+	}
+
+	@Test
+	void testDisabledBudget() {
+		RetryPolicy retryPolicy = new RetryPolicy(3, 0, MAX_TOTAL_DELAY);
+
+		Assertions.assertEquals(-1, retryPolicy.getRetryDelay(new ResourceNotReachableException("unreachable"), 0, 0));
+	}
+
+	/**
+	 * Creates the error reported by the communicator for a failed response with the given status code.
+	 *
+	 * @param statusCode the HTTP status code of the response
+	 * @param retryAfter the value of the {@code Retry-After} header, or {@code null} for none
+	 */
+	private static CommandFailureException createCommandFailure(int statusCode, String retryAfter) {
+		HttpHeaders headers = new HttpHeaders();
+		if (retryAfter != null) {
+			headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+		}
+		HttpServerErrorException cause = new HttpServerErrorException(HttpStatus.valueOf(statusCode), "Error", headers, new byte[0], StandardCharsets.UTF_8);
+		return new CommandFailureException("localhost", "request", "response", statusCode, cause);
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.utils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.bases.BaseProperty;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.LocationPathIndex;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.PropertyKeyTable;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.constants.Constant;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Attributes;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Channel;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Firmware;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Place;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Status;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Type;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Organization;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.DeviceState;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.InvitationStatus;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.MembershipRole;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.MembershipStatus;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.aggregated.FirmwareProperty;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.aggregated.OverviewProperty;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.aggregated.StatusProperty;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.aggregator.OrganizationProperty;
+
+/**
+ * Unit tests for the {@link MonitoringUtil} class.
+ * <p>
+ * The presized maps filled by {@link MonitoringUtil#putProperties(Map, Enum[], String, Function)} are compared with the
+ * maps produced by the stream based mapping they replaced, with keys formatted by {@link Constant#PROPERTY_FORMAT}.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class MonitoringUtilTest {
+
+	@Test
+	void testAggregatedPropertiesMatchStreamMapping() {
+		LocationPathIndex locationPathIndex = new LocationPathIndex();
+		for (Device device : Arrays.asList(createDevice(), new Device())) {
+			Map<String, String> expected = new HashMap<>();
+			expected.putAll(generateStreamProperties(OverviewProperty.values(), null, property -> MonitoringUtil.mapToOverviewProperty(device, property, locationPathIndex)));
+			expected.putAll(generateStreamProperties(FirmwareProperty.values(), Constant.FIRMWARE_GROUP, property -> MonitoringUtil.mapToFirmwareProperty(device, property)));
+			expected.putAll(generateStreamProperties(StatusProperty.values(), Constant.STATUS_GROUP, property -> MonitoringUtil.mapToStatusProperty(device, property)));
+
+			Map<String, String> actual = new HashMap<>(MonitoringUtil.getMapCapacity(expected.size()));
+			MonitoringUtil.putProperties(actual, OverviewProperty.values(), null, property -> MonitoringUtil.mapToOverviewProperty(device, property, locationPathIndex));
+			MonitoringUtil.putProperties(actual, FirmwareProperty.values(), Constant.FIRMWARE_GROUP, property -> MonitoringUtil.mapToFirmwareProperty(device, property));
+			MonitoringUtil.putProperties(actual, StatusProperty.values(), Constant.STATUS_GROUP, property -> MonitoringUtil.mapToStatusProperty(device, property));
+
+			Assertions.assertEquals(expected, actual);
+		}
+	}
+
+	@Test
+	void testGeneratePropertiesMatchesStreamMapping() {
+		Device device = createDevice();
+		Function<FirmwareProperty, String> mapper = property -> MonitoringUtil.mapToFirmwareProperty(device, property);
+
+		Assertions.assertEquals(generateStreamProperties(FirmwareProperty.values(), Constant.FIRMWARE_GROUP, mapper),
+				MonitoringUtil.generateProperties(FirmwareProperty.values(), Constant.FIRMWARE_GROUP, mapper));
+		Assertions.assertTrue(MonitoringUtil.generateProperties(new FirmwareProperty[0], Constant.FIRMWARE_GROUP, mapper).isEmpty());
+	}
+
+	@Test
+	void testOrganizationPropertiesMatchStreamMapping() {
+		Organization organization = new Organization();
+		organization.setId("org-1");
+		organization.setName("Organization One");
+		organization.setDomain("one.example.com");
+		organization.setMembershipRole(MembershipRole.ORG_ADMIN);
+		organization.setMembershipStatus(MembershipStatus.ACTIVE);
+		organization.setInvitationStatus(InvitationStatus.ACCEPTED);
+
+		Map<String, String> expected = new HashMap<>();
+		Map<String, String> actual = new HashMap<>();
+		for (int i = 1; i <= 12; i++) {
+			String groupName = String.format(Constant.GROUP_FORMAT, Constant.ORGANIZATION_GROUPS, i);
+			Assertions.assertEquals(groupName, PropertyKeyTable.getGroupName(Constant.ORGANIZATION_GROUPS, i));
+			expected.putAll(generateStreamProperties(OrganizationProperty.values(), groupName, property -> MonitoringUtil.mapToOrganizationProperty(organization, property)));
+			MonitoringUtil.putProperties(actual, OrganizationProperty.values(), groupName, property -> MonitoringUtil.mapToOrganizationProperty(organization, property));
+		}
+
+		Assertions.assertEquals(expected, actual);
+	}
+
+	@Test
+	void testPutPropertiesUsesNotAvailableForNullValues() {
+		Map<String, String> properties = new HashMap<>();
+		MonitoringUtil.putProperties(properties, StatusProperty.values(), Constant.STATUS_GROUP, property -> null);
+
+		Assertions.assertEquals(StatusProperty.values().length, properties.size());
+		properties.values().forEach(value -> Assertions.assertEquals(Constant.NOT_AVAILABLE, value));
+	}
+
+	@Test
+	void testDeviceNamesBeyondCacheLimit() {
+		for (int i = 0; i < 1500; i++) {
+			Device device = new Device();
+			Type type = new Type();
+			type.setName("type " + i);
+			device.setType(type);
+			Attributes attributes = new Attributes();
+			attributes.setProductModel("M" + i % 3);
+			device.setAttributes(attributes);
+
+			String expected = "Type " + i + " M" + i % 3;
+			Assertions.assertEquals(expected, MonitoringUtil.mapToDeviceName(device));
+			Assertions.assertEquals(expected, MonitoringUtil.mapToDeviceName(device));
+		}
+		Assertions.assertEquals("Parle Ceiling Microphone TCM-X", MonitoringUtil.mapToDeviceName(createDevice()));
+		Assertions.assertEquals(Constant.NOT_AVAILABLE, MonitoringUtil.mapToDeviceName(new Device()));
+	}
+
+	/**
+	 * Maps the given properties the way {@code generateProperties} did before the keys were precomputed and
+	 * the maps presized.
+	 */
+	private static <T extends Enum<T> & BaseProperty> Map<String, String> generateStreamProperties(T[] properties, String groupName, Function<T, String> mapper) {
+		return Arrays.stream(properties).collect(Collectors.toMap(
+				property -> Objects.isNull(groupName) ? property.getName() : String.format(Constant.PROPERTY_FORMAT, groupName, property.getName()),
+				property -> Optional.ofNullable(mapper.apply(property)).orElse(Constant.NOT_AVAILABLE)
+		));
+	}
+
+	/**
+	 * Creates a device with every displayed field set.
+	 */
+	private static Device createDevice() {
+		Device device = new Device();
+		device.setId("device-1");
+		device.setOrgId("org-1");
+		device.setOrgName("Organization One");
+		device.setSerial("SN-0001");
+		device.setState(DeviceState.ONLINE);
+
+		Type type = new Type();
+		type.setId("type-1");
+		type.setName("Parlé Ceiling Microphone");
+		device.setType(type);
+
+		Attributes attributes = new Attributes();
+		attributes.setProductModel("TCM-X");
+		device.setAttributes(attributes);
+
+		device.setAssignedFirmware(createFirmware("fw-1", "1.0.0"));
+		device.setLatestFirmware(createFirmware("fw-3", "3.0.0"));
+		device.setNextFirmware(createFirmware("fw-2", "2.0.0"));
+
+		Channel channel = new Channel();
+		channel.setId("channel-1");
+		channel.setName("Stable");
+		device.setChannel(channel);
+
+		Place.Hierarchy building = new Place.Hierarchy();
+		building.setId("place-1");
+		building.setName("Building");
+		Place.Hierarchy floor = new Place.Hierarchy();
+		floor.setId("place-2");
+		floor.setName("Floor 2");
+		Place place = new Place();
+		place.setId("place-2");
+		place.setHierarchy(Arrays.asList(building, floor));
+		device.setPlace(place);
+
+		Status status = new Status();
+		status.setTimestamp("2025-01-01T00:00:00Z");
+		status.setTemperature(42);
+		status.setFirmware("1.0.0");
+		status.setUptime(3725);
+		status.setPresence(true);
+		status.setCpuUtilization(12.5);
+		device.setStatus(status);
+		return device;
+	}
+
+	/**
+	 * Creates a firmware with the given ID and version.
+	 */
+	private static Firmware createFirmware(String id, String version) {
+		Firmware firmware = new Firmware();
+		firmware.setId(id);
+		firmware.setVersion(version);
+		return firmware;
+	}
+}
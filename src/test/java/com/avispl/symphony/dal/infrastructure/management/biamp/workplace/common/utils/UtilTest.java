@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.common.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+
+/**
+ * Unit tests for the {@link Util} class.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class UtilTest {
+
+	@Test
+	void testRemainingPageOffsets() {
+		Assertions.assertArrayEquals(new int[0], Util.getRemainingPageOffsets(0, 200));
+		Assertions.assertArrayEquals(new int[0], Util.getRemainingPageOffsets(1, 200));
+		Assertions.assertArrayEquals(new int[0], Util.getRemainingPageOffsets(200, 200));
+		Assertions.assertArrayEquals(new int[] { 200 }, Util.getRemainingPageOffsets(201, 200));
+		Assertions.assertArrayEquals(new int[] { 200, 400 }, Util.getRemainingPageOffsets(600, 200));
+		Assertions.assertArrayEquals(new int[] { 200, 400, 600 }, Util.getRemainingPageOffsets(601, 200));
+		Assertions.assertArrayEquals(new int[] { 1, 2, 3, 4 }, Util.getRemainingPageOffsets(5, 1));
+	}
+
+	@Test
+	void testRemainingPageOffsetsCoverEveryDevice() {
+		for (int pageSize = 1; pageSize <= 7; pageSize++) {
+			for (int totalCount = 0; totalCount <= 50; totalCount++) {
+				int[] offsets = Util.getRemainingPageOffsets(totalCount, pageSize);
+				int pageCount = totalCount == 0 ? 1 : (totalCount + pageSize - 1) / pageSize;
+
+				Assertions.assertEquals(pageCount - 1, offsets.length, "total " + totalCount + ", page size " + pageSize);
+				if (offsets.length > 0) {
+					Assertions.assertTrue(offsets[offsets.length - 1] < totalCount);
+					Assertions.assertTrue(offsets[offsets.length - 1] + pageSize >= totalCount);
+				}
+			}
+		}
+	}
+
+	@Test
+	void testRemainingPageOffsetsDoNotOverflow() {
+		int[] offsets = Util.getRemainingPageOffsets(Integer.MAX_VALUE, Integer.MAX_VALUE / 2);
+
+		Assertions.assertArrayEquals(new int[] { Integer.MAX_VALUE / 2, Integer.MAX_VALUE / 2 * 2 }, offsets);
+	}
+
+	@Test
+	void testSplitByOrganization() {
+		Device first = createDevice("device-1", "org-1");
+		Device second = createDevice("device-2", "org-2");
+		Device third = createDevice("device-3", "org-1");
+		Map<String, List<Device>> devicesByOrganization = Util.splitByOrganization(Arrays.asList(first, second, third), "org-2", "org-1", "org-3");
+
+		Assertions.assertEquals(Arrays.asList("org-2", "org-1", "org-3"), Arrays.asList(devicesByOrganization.keySet().toArray()));
+		Assertions.assertEquals(Collections.singletonList(second), devicesByOrganization.get("org-2"));
+		Assertions.assertEquals(Arrays.asList(first, third), devicesByOrganization.get("org-1"));
+		Assertions.assertTrue(devicesByOrganization.get("org-3").isEmpty());
+	}
+
+	@Test
+	void testSplitByOrganizationSkipsUnplacedDevices() {
+		Device placed = createDevice("device-1", "org-1");
+		Map<String, List<Device>> devicesByOrganization = Util.splitByOrganization(
+				Arrays.asList(createDevice("device-2", null), placed, createDevice("device-3", "org-9")), "org-1", "org-2");
+
+		Assertions.assertEquals(Collections.singletonList(placed), devicesByOrganization.get("org-1"));
+		Assertions.assertTrue(devicesByOrganization.get("org-2").isEmpty());
+		Assertions.assertNull(devicesByOrganization.get(null));
+		Assertions.assertNull(devicesByOrganization.get("org-9"));
+	}
+
+	@Test
+	void testSetFixedPoolSize() {
+		ThreadPoolExecutor executorService = new ThreadPoolExecutor(4, 4, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+		try {
+			Util.setFixedPoolSize(executorService, 8);
+			Assertions.assertEquals(8, executorService.getCorePoolSize());
+			Assertions.assertEquals(8, executorService.getMaximumPoolSize());
+
+			Util.setFixedPoolSize(executorService, 2);
+			Assertions.assertEquals(2, executorService.getCorePoolSize());
+			Assertions.assertEquals(2, executorService.getMaximumPoolSize());
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * Creates a device with the given ID and organization ID.
+	 */
+	private static Device createDevice(String id, String orgId) {
+		Device device = new Device();
+		device.setId(id);
+		device.setOrgId(orgId);
+		return device;
+	}
+}
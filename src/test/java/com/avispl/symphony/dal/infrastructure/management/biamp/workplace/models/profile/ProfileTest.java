@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types.InvitationStatus;
+
+/**
+ * Unit tests for the {@link Profile} class.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class ProfileTest {
+
+	@Test
+	void testInvitationStatusOfFirstInvitation() {
+		Profile profile = new Profile();
+		profile.setInvitations(Arrays.asList(createInvitation("org-1", InvitationStatus.PENDING), null,
+				createInvitation("org-1", InvitationStatus.DECLINED), createInvitation("org-2", InvitationStatus.ACCEPTED),
+				createInvitation(null, InvitationStatus.EXPIRED), createInvitation("org-3", null)));
+
+		Assertions.assertEquals(InvitationStatus.PENDING, profile.getInvitationStatus("org-1"));
+		Assertions.assertEquals(InvitationStatus.ACCEPTED, profile.getInvitationStatus("org-2"));
+		Assertions.assertEquals(InvitationStatus.NOT_AVAILABLE, profile.getInvitationStatus("org-3"));
+		Assertions.assertEquals(InvitationStatus.NOT_AVAILABLE, profile.getInvitationStatus("org-4"));
+		Assertions.assertEquals(InvitationStatus.NOT_AVAILABLE, profile.getInvitationStatus(null));
+	}
+
+	@Test
+	void testInvitationStatusWithoutInvitations() {
+		Profile profile = new Profile();
+		Assertions.assertEquals(InvitationStatus.NOT_AVAILABLE, profile.getInvitationStatus("org-1"));
+
+		profile.setInvitations(Collections.singletonList(createInvitation("org-1", InvitationStatus.PENDING)));
+		profile.setInvitations(null);
+		Assertions.assertEquals(InvitationStatus.NOT_AVAILABLE, profile.getInvitationStatus("org-1"));
+	}
+
+	@Test
+	void testInvitationStatusAfterDeserialization() throws Exception {
+		Profile profile = new ObjectMapper().readValue("{\"id\":\"user-1\",\"invitations\":[{\"id\":\"invitation-1\",\"orgId\":\"org-1\",\"status\":\"ACCEPTED\"}]}", Profile.class);
+
+		Assertions.assertEquals(InvitationStatus.ACCEPTED, profile.getInvitationStatus("org-1"));
+	}
+
+	@Test
+	void testContentValues() {
+		Assertions.assertEquals(createProfile("Organization One", InvitationStatus.PENDING).getContentValues(),
+				createProfile("Organization One", InvitationStatus.PENDING).getContentValues());
+		Assertions.assertNotEquals(createProfile("Organization One", InvitationStatus.PENDING).getContentValues(),
+				createProfile("Organization Uno", InvitationStatus.PENDING).getContentValues());
+		Assertions.assertNotEquals(createProfile("Organization One", InvitationStatus.PENDING).getContentValues(),
+				createProfile("Organization One", InvitationStatus.ACCEPTED).getContentValues());
+
+		Profile derived = createProfile("Organization One", InvitationStatus.PENDING);
+		derived.getMemberships().get(0).getOrganization().setInvitationStatus(InvitationStatus.PENDING);
+		Assertions.assertEquals(createProfile("Organization One", InvitationStatus.PENDING).getContentValues(), derived.getContentValues());
+	}
+
+	/**
+	 * Creates a profile with a membership to an organization with the given name and an invitation with the given status.
+	 */
+	private static Profile createProfile(String organizationName, InvitationStatus invitationStatus) {
+		Organization organization = new Organization();
+		organization.setId("org-1");
+		organization.setName(organizationName);
+		Membership membership = new Membership();
+		membership.setId("membership-1");
+		membership.setOrgId("org-1");
+		membership.setOrganization(organization);
+
+		Profile profile = new Profile();
+		profile.setId("user-1");
+		profile.setMemberships(Collections.singletonList(membership));
+		profile.setInvitations(Collections.singletonList(createInvitation("org-2", invitationStatus)));
+		return profile;
+	}
+
+	/**
+	 * Creates an invitation to the given organization with the given status.
+	 */
+	private static Invitation createInvitation(String orgId, InvitationStatus status) {
+		Invitation invitation = new Invitation();
+		invitation.setId("invitation-" + orgId);
+		invitation.setOrgId(orgId);
+		invitation.setStatus(status);
+		return invitation;
+	}
+}
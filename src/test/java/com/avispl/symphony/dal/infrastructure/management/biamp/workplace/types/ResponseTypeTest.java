@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.infrastructure.management.biamp.workplace.types;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.Device;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.device.DevicePage;
+import com.avispl.symphony.dal.infrastructure.management.biamp.workplace.models.profile.Profile;
+
+/**
+ * Unit tests for the {@link ResponseType} readers.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class ResponseTypeTest {
+
+	@Test
+	void testDevicesReader() throws Exception {
+		DevicePage page = decode(ResponseType.DEVICES, "{\"data\":{\"allDevices\":{\"totalCount\":3,\"devices\":["
+				+ "{\"id\":\"device-1\",\"orgId\":\"org-1\",\"state\":\"ONLINE\",\"unknownField\":1},"
+				+ "{\"id\":\"device-2\",\"orgId\":\"org-2\",\"status\":{\"firmware\":\"1.0.0\"}}]}}}");
+
+		Assertions.assertEquals(3, page.getTotalCount());
+		Assertions.assertEquals(2, page.getDevices().size());
+		Assertions.assertEquals("device-1", page.getDevices().get(0).getId());
+		Assertions.assertEquals("org-2", page.getDevices().get(1).getOrgId());
+		Assertions.assertEquals("1.0.0", page.getDevices().get(1).getStatus().getFirmware());
+	}
+
+	@Test
+	void testProfileReader() throws Exception {
+		Profile profile = decode(ResponseType.PROFILE, "{\"data\":{\"profile\":{\"id\":\"user-1\",\"email\":\"user@example.com\","
+				+ "\"memberships\":[{\"organization\":{\"id\":\"org-1\",\"name\":\"Organization One\"}}]}}}");
+
+		Assertions.assertEquals("user-1", profile.getId());
+		Assertions.assertEquals("user@example.com", profile.getEmail());
+		Assertions.assertEquals("org-1", profile.getMemberships().get(0).getOrganization().getId());
+	}
+
+	@Test
+	void testNextFirmwaresReader() throws Exception {
+		Map<String, Device> aliasedDevices = decode(ResponseType.NEXT_FIRMWARES, "{\"data\":{"
+				+ "\"device0\":{\"nextFirmware\":{\"id\":\"fw-2\",\"version\":\"2.0.0\"}},"
+				+ "\"device1\":{\"nextFirmware\":null},"
+				+ "\"device3\":null}}");
+
+		Assertions.assertEquals("2.0.0", aliasedDevices.get("device0").getNextFirmware().getVersion());
+		Assertions.assertNotNull(aliasedDevices.get("device1"));
+		Assertions.assertNull(aliasedDevices.get("device1").getNextFirmware());
+		//	A missing alias and a null alias both decode to no device
+		Assertions.assertFalse(aliasedDevices.containsKey("device2"));
+		Assertions.assertNull(aliasedDevices.get("device2"));
+		Assertions.assertTrue(aliasedDevices.containsKey("device3"));
+		Assertions.assertNull(aliasedDevices.get("device3"));
+	}
+
+	@Test
+	void testNullData() throws Exception {
+		String response = "{\"data\":null,\"errors\":[{\"message\":\"Unauthorized\"}]}";
+
+		//	Nothing matches the pointer of a single result, so the request fails instead of returning an empty result
+		Assertions.assertThrows(MismatchedInputException.class, () -> decode(ResponseType.DEVICES, response));
+		Assertions.assertThrows(MismatchedInputException.class, () -> decode(ResponseType.PROFILE, response));
+		//	The pointer of a batch is the data itself, so a null data decodes to no aliased result at all
+		Assertions.assertNull(decode(ResponseType.NEXT_FIRMWARES, response));
+	}
+
+	@Test
+	void testMissingData() throws Exception {
+		Assertions.assertNull(decode(ResponseType.DEVICES, "{\"data\":{\"allDevices\":null}}"));
+		Assertions.assertThrows(MismatchedInputException.class, () -> decode(ResponseType.DEVICES, "{\"data\":{}}"));
+		Assertions.assertThrows(MismatchedInputException.class, () -> decode(ResponseType.PROFILE, "{\"errors\":[]}"));
+		Assertions.assertThrows(MismatchedInputException.class, () -> decode(ResponseType.NEXT_FIRMWARES, "{\"errors\":[]}"));
+	}
+
+	/**
+	 * Decodes the given response body with the reader of the given response type, the way the communicator does.
+	 */
+	private static <T> T decode(ResponseType responseType, String response) throws Exception {
+		return responseType.getReader().readValue(response.getBytes(StandardCharsets.UTF_8));
+	}
+}